@@ -0,0 +1,129 @@
+package com.prototype.ecommerce.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DeflaterOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Deflate-compresses responses for clients that accept deflate but not gzip.
+ * 
+ * The embedded Tomcat only negotiates gzip, so clients that offer gzip are
+ * left to the connector and this filter stays out of the way. It reuses the
+ * server.compression settings so both encodings apply to the same responses.
+ */
+@Component
+public class DeflateCompressionFilter extends OncePerRequestFilter {
+
+	private static final String DEFLATE = "deflate";
+	private static final String GZIP = "gzip";
+
+	@Value("${server.compression.enabled:false}")
+	private boolean enabled;
+
+	@Value("${server.compression.min-response-size:2KB}")
+	private DataSize minResponseSize;
+
+	@Value("${server.compression.mime-types:application/json,text/plain}")
+	private String[] mimeTypes;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!enabled) {
+			return true;
+		}
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		return !accepts(acceptEncoding, DEFLATE) || accepts(acceptEncoding, GZIP);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+		filterChain.doFilter(request, cachingResponse);
+
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		byte[] body = cachingResponse.getContentAsByteArray();
+		if (!isCompressible(cachingResponse, body.length)) {
+			cachingResponse.copyBodyToResponse();
+			return;
+		}
+
+		byte[] deflated = deflate(body);
+		response.setHeader(HttpHeaders.CONTENT_ENCODING, DEFLATE);
+		response.setContentLength(deflated.length);
+		response.getOutputStream().write(deflated);
+		response.flushBuffer();
+	}
+
+	private boolean isCompressible(HttpServletResponse response, int length) {
+		if (length < minResponseSize.toBytes() || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+				|| response.getContentType() == null) {
+			return false;
+		}
+		MediaType contentType = MediaType.parseMediaType(response.getContentType());
+		for (String mimeType : mimeTypes) {
+			if (MediaType.parseMediaType(mimeType.trim()).includes(contentType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether an Accept-Encoding header allows a coding, ignoring codings
+	 * offered with q=0 or with a malformed q-value.
+	 */
+	private static boolean accepts(String acceptEncoding, String coding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String offer : acceptEncoding.split(",")) {
+			String[] parts = offer.split(";");
+			if (!parts[0].trim().equalsIgnoreCase(coding)) {
+				continue;
+			}
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.startsWith("q=") && quality(parameter.substring(2)) == 0.0) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Parses a q-value. A malformed one makes the coding unacceptable rather
+	 * than failing the request.
+	 */
+	private static double quality(String value) {
+		try {
+			return Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			return 0.0;
+		}
+	}
+
+	private static byte[] deflate(byte[] body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+		try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+			deflater.write(body);
+		}
+		return out.toByteArray();
+	}
+
+}
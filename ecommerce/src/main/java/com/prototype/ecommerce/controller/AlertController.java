@@ -0,0 +1,95 @@
+package com.prototype.ecommerce.controller;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prototype.ecommerce.dto.Alert;
+import com.prototype.ecommerce.dto.AlertRule;
+import com.prototype.ecommerce.service.AlertService;
+
+@RestController
+@RequestMapping("/prototype/ecommerce/alerts")
+public class AlertController {
+
+	private static final Logger logger = LoggerFactory.getLogger(AlertController.class);
+
+	@Autowired
+	private AlertService alertService;
+
+	/**
+	 * Endpoint to register an alert rule.
+	 * 
+	 * @param alertRule The rule type, threshold and optional product ID.
+	 * @return ResponseEntity containing the registered rule.
+	 */
+	@PostMapping("/registerRule")
+	public ResponseEntity<?> registerRule(@RequestBody AlertRule alertRule) {
+		try {
+			logger.info("Registering alert rule");
+			return ResponseEntity.status(HttpStatus.CREATED).body(alertService.registerRule(alertRule));
+		} catch (Exception e) {
+			logger.error("Failed to register alert rule: {}", e.getMessage());
+			return ResponseEntity.badRequest().body("Failed to register alert rule: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Endpoint to retrieve all alert rules.
+	 * 
+	 * @return ResponseEntity containing the registered rules.
+	 */
+	@GetMapping("/getRules")
+	public ResponseEntity<Collection<AlertRule>> getRules() {
+		return ResponseEntity.ok(alertService.getRules());
+	}
+
+	/**
+	 * Endpoint to delete an alert rule by its ID.
+	 * 
+	 * @param ruleId The ID of the rule to delete.
+	 * @return ResponseEntity indicating the status of the deletion.
+	 */
+	@DeleteMapping("/deleteRule/{ruleId}")
+	public ResponseEntity<String> deleteRule(@PathVariable Long ruleId) {
+		if (alertService.deleteRule(ruleId)) {
+			return ResponseEntity.ok("Alert rule deleted successfully");
+		} else {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Alert rule not found");
+		}
+	}
+
+	/**
+	 * Endpoint to retrieve the most recently dispatched alerts.
+	 * 
+	 * @return ResponseEntity containing the recent alerts, newest first.
+	 */
+	@GetMapping("/getRecentAlerts")
+	public ResponseEntity<List<Alert>> getRecentAlerts() {
+		return ResponseEntity.ok(alertService.getRecentAlerts());
+	}
+
+	/**
+	 * Endpoint to retrieve how many alerts were dropped because the dispatch
+	 * queue stayed full.
+	 * 
+	 * @return ResponseEntity containing the number of dropped alerts.
+	 */
+	@GetMapping("/getDroppedAlertCount")
+	public ResponseEntity<Long> getDroppedAlertCount() {
+		return ResponseEntity.ok(alertService.getDroppedAlertCount());
+	}
+
+}
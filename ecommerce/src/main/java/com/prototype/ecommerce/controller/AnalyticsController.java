@@ -0,0 +1,52 @@
+package com.prototype.ecommerce.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prototype.ecommerce.dto.CatalogueStatistics;
+import com.prototype.ecommerce.service.CatalogueStatisticsService;
+
+@RestController
+@RequestMapping("/prototype/ecommerce/analytics")
+public class AnalyticsController {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+	@Autowired
+	private CatalogueStatisticsService catalogueStatisticsService;
+
+	/**
+	 * Endpoint to retrieve the catalogue statistics.
+	 * 
+	 * @return ResponseEntity containing the current catalogue statistics.
+	 */
+	@GetMapping("/getStatistics")
+	public ResponseEntity<CatalogueStatistics> getStatistics() {
+		return ResponseEntity.ok(catalogueStatisticsService.getStatistics());
+	}
+
+	/**
+	 * Endpoint to recompute the catalogue statistics from a full scan.
+	 * 
+	 * @return ResponseEntity containing the reconciled catalogue statistics.
+	 */
+	@PostMapping("/reconcile")
+	public ResponseEntity<?> reconcile() {
+		try {
+			logger.info("Reconciling catalogue statistics on request");
+			catalogueStatisticsService.reconcile();
+			return ResponseEntity.ok(catalogueStatisticsService.getStatistics());
+		} catch (Exception e) {
+			logger.error("Failed to reconcile catalogue statistics: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to reconcile catalogue statistics: " + e.getMessage());
+		}
+	}
+
+}
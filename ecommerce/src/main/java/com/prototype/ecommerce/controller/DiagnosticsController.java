@@ -0,0 +1,32 @@
+package com.prototype.ecommerce.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prototype.ecommerce.dto.HotProduct;
+import com.prototype.ecommerce.service.HotProductService;
+
+@RestController
+@RequestMapping("/prototype/ecommerce/diagnostics")
+public class DiagnosticsController {
+
+	@Autowired
+	private HotProductService hotProductService;
+
+	/**
+	 * Endpoint to list the hottest products and whether they are held in
+	 * memory.
+	 * 
+	 * @return ResponseEntity containing the hot products, hottest first.
+	 */
+	@GetMapping("/getHotProducts")
+	public ResponseEntity<List<HotProduct>> getHotProducts() {
+		return ResponseEntity.ok(hotProductService.getHotProducts());
+	}
+
+}
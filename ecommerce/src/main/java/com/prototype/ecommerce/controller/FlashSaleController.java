@@ -0,0 +1,96 @@
+package com.prototype.ecommerce.controller;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.prototype.ecommerce.dto.FlashSale;
+import com.prototype.ecommerce.service.FlashSaleService;
+
+@RestController
+@RequestMapping("/prototype/ecommerce/flashSales")
+public class FlashSaleController {
+
+	private static final Logger logger = LoggerFactory.getLogger(FlashSaleController.class);
+
+	@Autowired
+	private FlashSaleService flashSaleService;
+
+	/**
+	 * Endpoint to schedule a flash sale.
+	 * 
+	 * @param flashSale The flash sale window, product IDs and discount.
+	 * @return ResponseEntity containing the scheduled flash sale.
+	 */
+	@PostMapping("/schedule")
+	public ResponseEntity<?> scheduleFlashSale(@RequestBody FlashSale flashSale) {
+		try {
+			logger.info("Scheduling flash sale");
+			FlashSale scheduledSale = flashSaleService.scheduleFlashSale(flashSale);
+			return ResponseEntity.status(HttpStatus.CREATED).body(scheduledSale);
+		} catch (Exception e) {
+			logger.error("Failed to schedule flash sale: {}", e.getMessage());
+			return ResponseEntity.badRequest().body("Failed to schedule flash sale: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Endpoint to retrieve a flash sale by its ID.
+	 * 
+	 * @param saleId The ID of the flash sale to retrieve.
+	 * @return ResponseEntity containing the flash sale, if found.
+	 */
+	@GetMapping("/getFlashSale/{saleId}")
+	public ResponseEntity<?> getFlashSaleById(@PathVariable Long saleId) {
+		Optional<FlashSale> flashSale = flashSaleService.getFlashSaleById(saleId);
+		if (flashSale.isPresent()) {
+			return ResponseEntity.ok(flashSale.get());
+		} else {
+			logger.warn("Flash sale not found with ID: {}", saleId);
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Flash sale not found with ID: " + saleId);
+		}
+	}
+
+	/**
+	 * Endpoint to retrieve all flash sales.
+	 * 
+	 * @return ResponseEntity containing the flash sales.
+	 */
+	@GetMapping("/getFlashSales")
+	public ResponseEntity<?> getFlashSales() {
+		return ResponseEntity.ok(flashSaleService.getFlashSales());
+	}
+
+	/**
+	 * Endpoint to cancel a flash sale.
+	 * 
+	 * @param saleId The ID of the flash sale to cancel.
+	 * @return ResponseEntity indicating the status of the cancellation.
+	 */
+	@DeleteMapping("/cancel/{saleId}")
+	public ResponseEntity<String> cancelFlashSale(@PathVariable Long saleId) {
+		try {
+			logger.info("Cancelling flash sale with ID: {}", saleId);
+			if (flashSaleService.cancelFlashSale(saleId)) {
+				return ResponseEntity.ok("Flash sale cancelled successfully");
+			} else {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Flash sale not found or already finished");
+			}
+		} catch (Exception e) {
+			logger.error("Failed to cancel flash sale: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to cancel flash sale: " + e.getMessage());
+		}
+	}
+
+}
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.prototype.ecommerce.dto.ProductResponse;
 import com.prototype.ecommerce.entity.ProductEntity;
 import com.prototype.ecommerce.service.ProductService;
 
@@ -44,10 +46,10 @@ public class ProductController {
 			logger.info("Creating product: {}", productEntity);
 			ProductEntity createdProduct = productService.createProduct(productEntity);
 			logger.info("Product created successfully: {}", createdProduct);
-			return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
+			return ResponseEntity.status(HttpStatus.CREATED).body(ProductResponse.from(createdProduct));
 		} catch (Exception e) {
 			logger.error("Failed to create product: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to create product: " + e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body("Failed to create product: " + e.getMessage());
 		}
 	}
 
@@ -61,17 +63,17 @@ public class ProductController {
 	public ResponseEntity<?> getProductById(@PathVariable Long productId) {
 		try {
 			logger.info("Fetching product with ID: {}", productId);
-			Optional<ProductEntity> product = productService.getProductById(productId);
+			Optional<ProductResponse> product = productService.getProductResponseById(productId);
 			if (product.isPresent()) {
 				logger.info("Product found: {}", product.get());
 				return ResponseEntity.ok(product.get());
 			} else {
 				logger.warn("Product not found with ID: {}", productId);
-				return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Product not found with ID: " + productId);
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.TEXT_PLAIN).body("Product not found with ID: " + productId);
 			}
 		} catch (Exception e) {
 			logger.error("Failed to fetch product: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to fetch product: " + e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body("Failed to fetch product: " + e.getMessage());
 		}
 	}
 	
@@ -88,10 +90,10 @@ public class ProductController {
         	logger.info("Updating product with ID: {}", productId);
             productService.updateProduct(productId, productEntity);
             logger.info("Product updated successfully");
-            return ResponseEntity.ok("Product updated successfully");
+            return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body("Product updated successfully");
         } catch (Exception e) {
         	logger.error("Failed to update product: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to update product: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body("Failed to update product: " + e.getMessage());
         }
     }
 	
@@ -108,14 +110,14 @@ public class ProductController {
 			boolean deleted = productService.deleteProductById(productId);
 			if (deleted) {
 				logger.info("Product deleted successfully");
-				return ResponseEntity.ok("Product deleted successfully");
+				return ResponseEntity.ok().contentType(MediaType.TEXT_PLAIN).body("Product deleted successfully");
 			} else {
 				logger.warn("Product not found with ID: {}", productId);
-				return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Product not found");
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.TEXT_PLAIN).body("Product not found");
 			}
 		} catch (Exception e) {
 			logger.error("Failed to delete product: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to delete product: " + e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body("Failed to delete product: " + e.getMessage());
 		}
 	}
 	
@@ -134,10 +136,10 @@ public class ProductController {
 			logger.info("Applying discount or tax to product with ID: {}", productId);
 			ProductEntity updatedProduct = productService.applyDiscountOrTax(productId, productEntity);
 			logger.info("Discount or tax applied successfully: {}", updatedProduct);
-			return ResponseEntity.ok(updatedProduct);
+			return ResponseEntity.ok(ProductResponse.from(updatedProduct));
 		} catch (Exception e) {
 			logger.error("Failed to apply discount or tax: {}", e.getMessage());
-			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to apply discount or tax: " + e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).contentType(MediaType.TEXT_PLAIN).body("Failed to apply discount or tax: " + e.getMessage());
 		}
 	}
     
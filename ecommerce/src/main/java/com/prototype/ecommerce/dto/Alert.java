@@ -0,0 +1,18 @@
+package com.prototype.ecommerce.dto;
+
+import java.time.Instant;
+
+/**
+ * An alert raised when a product write matches an {@link AlertRule}.
+ * 
+ * @param ruleId        The ID of the matching rule.
+ * @param productId     The ID of the product that changed.
+ * @param type          The type of the matching rule.
+ * @param previousValue The quantity or price before the write, or null if the product was created.
+ * @param currentValue  The quantity or price after the write.
+ * @param raisedAt      The time the alert was raised.
+ */
+public record Alert(Long ruleId, Long productId, AlertRule.Type type, Double previousValue, Double currentValue,
+		Instant raisedAt) {
+
+}
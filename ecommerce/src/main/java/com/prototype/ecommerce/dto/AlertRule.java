@@ -0,0 +1,60 @@
+package com.prototype.ecommerce.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A rule evaluated on every product write.
+ * 
+ * LOW_STOCK fires when productQuantityAvailable falls below the threshold.
+ * PRICE_DROP fires when productPrice drops by at least the threshold, in
+ * percent, in a single write. A rule without a productId applies to every
+ * product.
+ */
+public class AlertRule {
+
+	public enum Type {
+		LOW_STOCK, PRICE_DROP
+	}
+
+	private Long ruleId;
+
+	private Long productId;
+
+	private Type type;
+
+	private Double threshold;
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	public Long getRuleId() {
+		return ruleId;
+	}
+
+	public void setRuleId(Long ruleId) {
+		this.ruleId = ruleId;
+	}
+
+	public Long getProductId() {
+		return productId;
+	}
+
+	public void setProductId(Long productId) {
+		this.productId = productId;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public void setType(Type type) {
+		this.type = type;
+	}
+
+	public Double getThreshold() {
+		return threshold;
+	}
+
+	public void setThreshold(Double threshold) {
+		this.threshold = threshold;
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.prototype.ecommerce.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Catalogue-wide aggregates served by the analytics endpoint.
+ * 
+ * @param productCount              The number of products.
+ * @param totalStock                The sum of productQuantityAvailable.
+ * @param totalInventoryValue       The sum of productPrice * productQuantityAvailable.
+ * @param averageDiscountPercentage The mean productDiscountPercentage across all products.
+ * @param stockByPriceBand          Stock counts per price band, cheapest band first.
+ * @param lastReconciledAt          The time of the last full reconciliation scan, or null if none ran yet.
+ */
+public record CatalogueStatistics(long productCount, long totalStock, double totalInventoryValue,
+		double averageDiscountPercentage, List<PriceBand> stockByPriceBand, Instant lastReconciledAt) {
+
+	/**
+	 * Stock held by products priced in [minPrice, maxPrice).
+	 * 
+	 * @param minPrice     The inclusive lower bound of the band.
+	 * @param maxPrice     The exclusive upper bound of the band, or null for the top band.
+	 * @param productCount The number of products in the band.
+	 * @param stock        The stock held by products in the band.
+	 */
+	public record PriceBand(double minPrice, Double maxPrice, long productCount, long stock) {
+
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.prototype.ecommerce.dto;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A flash sale window: a discount applied to a set of products between a
+ * start and an end time.
+ * 
+ * Sale prices are precomputed before the start time so that activation is
+ * only an in-memory switch. They are never written to the products table;
+ * the sale and its prices are stored in flash_sales so that they survive a
+ * restart.
+ */
+public class FlashSale {
+
+	public enum Status {
+		SCHEDULED, ACTIVE, ENDED, CANCELLED
+	}
+
+	private Long saleId;
+
+	private Set<Long> productIds;
+
+	private Double discountPercentage;
+
+	private Instant startTime;
+
+	private Instant endTime;
+
+	private volatile Status status;
+
+	private volatile Map<Long, Double> salePrices = Collections.emptyMap();
+
+	private volatile Map<Long, Double> originalPrices = Collections.emptyMap();
+
+	public Long getSaleId() {
+		return saleId;
+	}
+
+	public void setSaleId(Long saleId) {
+		this.saleId = saleId;
+	}
+
+	public Set<Long> getProductIds() {
+		return productIds;
+	}
+
+	public void setProductIds(Set<Long> productIds) {
+		this.productIds = productIds;
+	}
+
+	public Double getDiscountPercentage() {
+		return discountPercentage;
+	}
+
+	public void setDiscountPercentage(Double discountPercentage) {
+		this.discountPercentage = discountPercentage;
+	}
+
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	public void setStartTime(Instant startTime) {
+		this.startTime = startTime;
+	}
+
+	public Instant getEndTime() {
+		return endTime;
+	}
+
+	public void setEndTime(Instant endTime) {
+		this.endTime = endTime;
+	}
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	public Map<Long, Double> getSalePrices() {
+		return salePrices;
+	}
+
+	public void setSalePrices(Map<Long, Double> salePrices) {
+		this.salePrices = salePrices;
+	}
+
+	@JsonIgnore
+	public Map<Long, Double> getOriginalPrices() {
+		return originalPrices;
+	}
+
+	@JsonIgnore
+	public void setOriginalPrices(Map<Long, Double> originalPrices) {
+		this.originalPrices = originalPrices;
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.prototype.ecommerce.dto;
+
+/**
+ * Diagnostics entry for a frequently read product.
+ * 
+ * @param productId     The ID of the product.
+ * @param estimatedHits The estimated number of reads since the last decay.
+ * @param pinned        Whether the product is currently held in memory.
+ */
+public record HotProduct(Long productId, long estimatedHits, boolean pinned) {
+
+}
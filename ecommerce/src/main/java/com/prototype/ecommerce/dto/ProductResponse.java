@@ -0,0 +1,29 @@
+package com.prototype.ecommerce.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.prototype.ecommerce.entity.ProductEntity;
+
+/**
+ * Read-only view of a product as returned by the REST API.
+ * 
+ * Mirrors the public JSON shape of {@link ProductEntity}; the discount
+ * percentage and tax rate are deliberately left out, just like the
+ * {@code @JsonIgnore} fields on the entity.
+ */
+@JsonSerialize(using = ProductResponseSerializer.class)
+public record ProductResponse(Long productId, String productName, String productDescription, Double productPrice,
+		Integer productQuantityAvailable) {
+
+	/**
+	 * Builds a response from a product entity.
+	 * 
+	 * @param productEntity The product entity to copy.
+	 * @return The product response.
+	 */
+	public static ProductResponse from(ProductEntity productEntity) {
+		return new ProductResponse(productEntity.getProductId(), productEntity.getProductName(),
+				productEntity.getProductDescription(), productEntity.getProductPrice(),
+				productEntity.getProductQuantityAvailable());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.prototype.ecommerce.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Streams a {@link ProductResponse} straight to the {@link JsonGenerator}.
+ * 
+ * Field names are pre-encoded once, so writing a product does no reflection
+ * and no per-request string encoding.
+ */
+public class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final SerializedString PRODUCT_ID = new SerializedString("productId");
+	private static final SerializedString PRODUCT_NAME = new SerializedString("productName");
+	private static final SerializedString PRODUCT_DESCRIPTION = new SerializedString("productDescription");
+	private static final SerializedString PRODUCT_PRICE = new SerializedString("productPrice");
+	private static final SerializedString PRODUCT_QUANTITY_AVAILABLE = new SerializedString("productQuantityAvailable");
+
+	public ProductResponseSerializer() {
+		super(ProductResponse.class);
+	}
+
+	@Override
+	public void serialize(ProductResponse product, JsonGenerator generator, SerializerProvider provider) throws IOException {
+		generator.writeStartObject(product);
+
+		generator.writeFieldName(PRODUCT_ID);
+		if (product.productId() == null) {
+			generator.writeNull();
+		} else {
+			generator.writeNumber(product.productId());
+		}
+
+		generator.writeFieldName(PRODUCT_NAME);
+		generator.writeString(product.productName());
+
+		generator.writeFieldName(PRODUCT_DESCRIPTION);
+		generator.writeString(product.productDescription());
+
+		generator.writeFieldName(PRODUCT_PRICE);
+		if (product.productPrice() == null) {
+			generator.writeNull();
+		} else {
+			generator.writeNumber(product.productPrice());
+		}
+
+		generator.writeFieldName(PRODUCT_QUANTITY_AVAILABLE);
+		if (product.productQuantityAvailable() == null) {
+			generator.writeNull();
+		} else {
+			generator.writeNumber(product.productQuantityAvailable());
+		}
+
+		generator.writeEndObject();
+	}
+
+}
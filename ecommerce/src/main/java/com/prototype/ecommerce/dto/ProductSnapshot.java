@@ -0,0 +1,38 @@
+package com.prototype.ecommerce.dto;
+
+import com.prototype.ecommerce.entity.ProductEntity;
+
+/**
+ * Immutable copy of the numeric state of a product at one point in time.
+ * 
+ * @param productId                 The ID of the product.
+ * @param productPrice              The price of the product.
+ * @param productQuantityAvailable  The quantity available.
+ * @param productDiscountPercentage The discount percentage applied.
+ */
+public record ProductSnapshot(Long productId, double productPrice, int productQuantityAvailable,
+		double productDiscountPercentage) {
+
+	/**
+	 * Builds a snapshot from nullable column values, treating null as zero.
+	 * Used by the JPQL constructor expression in ProductRepository.
+	 */
+	public ProductSnapshot(Long productId, Double productPrice, Integer productQuantityAvailable,
+			Double productDiscountPercentage) {
+		this(productId, productPrice == null ? 0.0 : productPrice.doubleValue(),
+				productQuantityAvailable == null ? 0 : productQuantityAvailable.intValue(),
+				productDiscountPercentage == null ? 0.0 : productDiscountPercentage.doubleValue());
+	}
+
+	/**
+	 * Copies the current state of a product entity.
+	 * 
+	 * @param productEntity The product entity to copy.
+	 * @return The product snapshot.
+	 */
+	public static ProductSnapshot from(ProductEntity productEntity) {
+		return new ProductSnapshot(productEntity.getProductId(), productEntity.getProductPrice(),
+				productEntity.getProductQuantityAvailable(), productEntity.getProductDiscountPercentage());
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.prototype.ecommerce.entity;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.prototype.ecommerce.dto.FlashSale;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+
+/**
+ * Stored state of a flash sale, so that scheduled and active sales survive a
+ * restart. Written in the background by the flash sale service; the
+ * in-memory sale remains the read path.
+ */
+@Entity
+@Table(name = "flash_sales")
+public class FlashSaleEntity {
+
+	@Id
+	@Column(name = "sale_id")
+	private Long saleId;
+
+	@Column(name = "discount_percentage")
+	private Double discountPercentage;
+
+	@Column(name = "start_time")
+	private Instant startTime;
+
+	@Column(name = "end_time")
+	private Instant endTime;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status")
+	private FlashSale.Status status;
+
+	@ElementCollection(fetch = FetchType.EAGER)
+	@CollectionTable(name = "flash_sale_products", joinColumns = @JoinColumn(name = "sale_id"))
+	@Column(name = "product_id")
+	private Set<Long> productIds = new HashSet<>();
+
+	@ElementCollection(fetch = FetchType.EAGER)
+	@CollectionTable(name = "flash_sale_prices", joinColumns = @JoinColumn(name = "sale_id"))
+	@MapKeyColumn(name = "product_id")
+	private Map<Long, FlashSalePrice> prices = new HashMap<>();
+
+	public Long getSaleId() {
+		return saleId;
+	}
+
+	public void setSaleId(Long saleId) {
+		this.saleId = saleId;
+	}
+
+	public Double getDiscountPercentage() {
+		return discountPercentage;
+	}
+
+	public void setDiscountPercentage(Double discountPercentage) {
+		this.discountPercentage = discountPercentage;
+	}
+
+	public Instant getStartTime() {
+		return startTime;
+	}
+
+	public void setStartTime(Instant startTime) {
+		this.startTime = startTime;
+	}
+
+	public Instant getEndTime() {
+		return endTime;
+	}
+
+	public void setEndTime(Instant endTime) {
+		this.endTime = endTime;
+	}
+
+	public FlashSale.Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(FlashSale.Status status) {
+		this.status = status;
+	}
+
+	public Set<Long> getProductIds() {
+		return productIds;
+	}
+
+	public void setProductIds(Set<Long> productIds) {
+		this.productIds = productIds;
+	}
+
+	public Map<Long, FlashSalePrice> getPrices() {
+		return prices;
+	}
+
+	public void setPrices(Map<Long, FlashSalePrice> prices) {
+		this.prices = prices;
+	}
+
+}
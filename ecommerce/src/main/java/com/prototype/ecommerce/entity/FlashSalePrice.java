@@ -0,0 +1,43 @@
+package com.prototype.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Precomputed price of one product in a flash sale, stored in the
+ * flash_sale_prices table.
+ */
+@Embeddable
+public class FlashSalePrice {
+
+	@Column(name = "original_price")
+	private Double originalPrice;
+
+	@Column(name = "sale_price")
+	private Double salePrice;
+
+	public FlashSalePrice() {
+	}
+
+	public FlashSalePrice(Double originalPrice, Double salePrice) {
+		this.originalPrice = originalPrice;
+		this.salePrice = salePrice;
+	}
+
+	public Double getOriginalPrice() {
+		return originalPrice;
+	}
+
+	public void setOriginalPrice(Double originalPrice) {
+		this.originalPrice = originalPrice;
+	}
+
+	public Double getSalePrice() {
+		return salePrice;
+	}
+
+	public void setSalePrice(Double salePrice) {
+		this.salePrice = salePrice;
+	}
+
+}
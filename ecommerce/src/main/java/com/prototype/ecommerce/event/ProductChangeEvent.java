@@ -0,0 +1,17 @@
+package com.prototype.ecommerce.event;
+
+import com.prototype.ecommerce.dto.ProductSnapshot;
+
+/**
+ * Published after a product has been created, updated, repriced or deleted.
+ * 
+ * @param before The product before the change, or null if it was created.
+ * @param after  The product after the change, or null if it was deleted.
+ */
+public record ProductChangeEvent(ProductSnapshot before, ProductSnapshot after) {
+
+	public Long productId() {
+		return after != null ? after.productId() : before.productId();
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.prototype.ecommerce.exception;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,7 +14,7 @@ public class CustomExceptionHandler {
 		String errorMessage = "Validation error: repquest boody wont be blank";
 		errorMessage += ex.getBindingResult().getAllErrors().stream().map(error -> error.getDefaultMessage()).reduce("",
 				(accumulator, message) -> accumulator + message + "; ");
-		return ResponseEntity.badRequest().body(errorMessage);
+		return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN).body(errorMessage);
 	}
 
 }
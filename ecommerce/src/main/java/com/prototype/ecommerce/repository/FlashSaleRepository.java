@@ -0,0 +1,28 @@
+package com.prototype.ecommerce.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.prototype.ecommerce.dto.FlashSale;
+import com.prototype.ecommerce.entity.FlashSaleEntity;
+
+public interface FlashSaleRepository extends JpaRepository<FlashSaleEntity, Long> {
+
+	/**
+	 * Retrieves the flash sales in any of the given states.
+	 * 
+	 * @param statuses The states to match
+	 * @return The matching flash sales
+	 */
+	List<FlashSaleEntity> findByStatusIn(Collection<FlashSale.Status> statuses);
+
+	/**
+	 * @return The highest flash sale ID ever stored, or null if there is none
+	 */
+	@Query("SELECT MAX(s.saleId) FROM FlashSaleEntity s")
+	Long findMaxSaleId();
+
+}
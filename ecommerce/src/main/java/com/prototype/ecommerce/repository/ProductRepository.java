@@ -1,9 +1,40 @@
 package com.prototype.ecommerce.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.prototype.ecommerce.dto.ProductResponse;
+import com.prototype.ecommerce.dto.ProductSnapshot;
 import com.prototype.ecommerce.entity.ProductEntity;
 
 public interface ProductRepository extends JpaRepository<ProductEntity, Long>{
-	
-}
\ No newline at end of file
+
+	/**
+	 * Loads a product straight into a {@link ProductResponse}, without
+	 * hydrating a managed entity.
+	 * 
+	 * @param productId The ID of the product to retrieve
+	 * @return An optional containing the product response if found, otherwise empty
+	 */
+	@Query("SELECT new com.prototype.ecommerce.dto.ProductResponse(p.productId, p.productName, p.productDescription, p.productPrice, p.productQuantityAvailable) "
+			+ "FROM ProductEntity p WHERE p.productId = :productId")
+	Optional<ProductResponse> findProductResponseById(@Param("productId") Long productId);
+
+	/**
+	 * Loads the next page of product snapshots in ID order, starting after the
+	 * given ID (keyset pagination).
+	 * 
+	 * @param afterProductId The last product ID of the previous page, or 0 for the first page
+	 * @param pageable       The page size; the page number should be 0
+	 * @return The product snapshots
+	 */
+	@Query("SELECT new com.prototype.ecommerce.dto.ProductSnapshot(p.productId, p.productPrice, p.productQuantityAvailable, p.productDiscountPercentage) "
+			+ "FROM ProductEntity p WHERE p.productId > :afterProductId ORDER BY p.productId")
+	List<ProductSnapshot> findSnapshotsAfter(@Param("afterProductId") Long afterProductId, Pageable pageable);
+
+}
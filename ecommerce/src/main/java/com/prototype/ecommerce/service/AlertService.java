@@ -0,0 +1,55 @@
+package com.prototype.ecommerce.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.prototype.ecommerce.dto.Alert;
+import com.prototype.ecommerce.dto.AlertRule;
+import com.prototype.ecommerce.event.ProductChangeEvent;
+
+public interface AlertService {
+
+	/**
+	 * Registers an alert rule.
+	 * 
+	 * @param alertRule The rule to register
+	 * @return The registered rule with its assigned ID
+	 */
+	AlertRule registerRule(AlertRule alertRule);
+
+	/**
+	 * Retrieves all registered alert rules.
+	 * 
+	 * @return The registered rules
+	 */
+	Collection<AlertRule> getRules();
+
+	/**
+	 * Deletes an alert rule by its ID.
+	 * 
+	 * @param ruleId The ID of the rule to delete
+	 * @return True if the rule was deleted, otherwise false
+	 */
+	boolean deleteRule(Long ruleId);
+
+	/**
+	 * Evaluates the registered rules against a product change and queues any
+	 * resulting alerts for dispatch.
+	 * 
+	 * @param event The product change
+	 */
+	void evaluate(ProductChangeEvent event);
+
+	/**
+	 * Retrieves the most recently dispatched alerts, newest first.
+	 * 
+	 * @return The recent alerts
+	 */
+	List<Alert> getRecentAlerts();
+
+	/**
+	 * @return The number of alerts dropped because the dispatch queue was full
+	 */
+	long getDroppedAlertCount();
+
+}
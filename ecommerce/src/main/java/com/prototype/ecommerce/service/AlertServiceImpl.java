@@ -0,0 +1,218 @@
+package com.prototype.ecommerce.service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.prototype.ecommerce.dto.Alert;
+import com.prototype.ecommerce.dto.AlertRule;
+import com.prototype.ecommerce.dto.ProductSnapshot;
+import com.prototype.ecommerce.event.ProductChangeEvent;
+import com.prototype.ecommerce.exception.ProductServiceException;
+import com.prototype.ecommerce.util.AlertRuleIndex;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class AlertServiceImpl implements AlertService {
+
+	private static final Logger logger = LoggerFactory.getLogger(AlertServiceImpl.class);
+
+	@Autowired(required = false)
+	private List<AlertSink> alertSinks = new ArrayList<>();
+
+	@Value("${ecommerce.alerts.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${ecommerce.alerts.batch-size:100}")
+	private int batchSize;
+
+	@Value("${ecommerce.alerts.offer-timeout-millis:5}")
+	private long offerTimeoutMillis;
+
+	@Value("${ecommerce.alerts.recent-size:200}")
+	private int recentSize;
+
+	private final AlertRuleIndex ruleIndex = new AlertRuleIndex();
+	private final Map<Long, AlertRule> rulesById = new ConcurrentHashMap<>();
+	private final AtomicLong ruleIdSequence = new AtomicLong();
+	private final AtomicLong droppedAlerts = new AtomicLong();
+	private final Deque<Alert> recentAlerts = new ArrayDeque<>();
+
+	private BlockingQueue<Alert> queue;
+	private Thread dispatcher;
+
+	@PostConstruct
+	public void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		dispatcher = new Thread(this::dispatch, "alert-dispatcher");
+		dispatcher.setDaemon(true);
+		dispatcher.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		dispatcher.interrupt();
+	}
+
+	/**
+	 * Registers an alert rule.
+	 * 
+	 * @param alertRule The rule to register.
+	 * @return The registered rule.
+	 * @throws ProductServiceException If the rule is invalid.
+	 */
+	@Override
+	public AlertRule registerRule(AlertRule alertRule) {
+		try {
+			if (alertRule == null || alertRule.getType() == null || alertRule.getThreshold() == null || alertRule.getThreshold() <= 0.0) {
+				throw new IllegalArgumentException("Alert rule needs a type and a positive threshold");
+			}
+			alertRule.setRuleId(ruleIdSequence.incrementAndGet());
+			rulesById.put(alertRule.getRuleId(), alertRule);
+			ruleIndex.add(alertRule);
+			logger.info("Alert rule registered: {} {} {}", alertRule.getRuleId(), alertRule.getType(), alertRule.getThreshold());
+			return alertRule;
+		} catch (Exception e) {
+			logger.error("Failed to register alert rule: {}", e.getMessage());
+			throw new ProductServiceException("Failed to register alert rule: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public Collection<AlertRule> getRules() {
+		return ruleIndex.getRules();
+	}
+
+	@Override
+	public boolean deleteRule(Long ruleId) {
+		AlertRule alertRule = rulesById.remove(ruleId);
+		if (alertRule == null) {
+			logger.warn("Alert rule not found with ID: {}", ruleId);
+			return false;
+		}
+		ruleIndex.remove(alertRule);
+		logger.info("Alert rule deleted: {}", ruleId);
+		return true;
+	}
+
+	/**
+	 * Matches a product change against the rule index. Runs on the writing
+	 * thread, so it never throws and waits at most one offer timeout for
+	 * queue space in total, however many rules match.
+	 * 
+	 * @param event The product change.
+	 */
+	@Override
+	@EventListener
+	public void evaluate(ProductChangeEvent event) {
+		ProductSnapshot before = event.before();
+		ProductSnapshot after = event.after();
+		if (after == null) {
+			return;
+		}
+		try {
+			Instant now = Instant.now();
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+			Integer previousQuantity = before == null ? null : before.productQuantityAvailable();
+			for (AlertRule rule : ruleIndex.matchLowStock(after.productId(), previousQuantity, after.productQuantityAvailable())) {
+				enqueue(new Alert(rule.getRuleId(), after.productId(), rule.getType(),
+						previousQuantity == null ? null : previousQuantity.doubleValue(),
+						(double) after.productQuantityAvailable(), now), deadline);
+			}
+			if (before != null && before.productPrice() > 0.0 && after.productPrice() < before.productPrice()) {
+				double dropPercentage = (before.productPrice() - after.productPrice()) / before.productPrice() * 100;
+				for (AlertRule rule : ruleIndex.matchPriceDrop(after.productId(), dropPercentage)) {
+					enqueue(new Alert(rule.getRuleId(), after.productId(), rule.getType(), before.productPrice(),
+							after.productPrice(), now), deadline);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			logger.error("Failed to evaluate alert rules: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public List<Alert> getRecentAlerts() {
+		synchronized (recentAlerts) {
+			return new ArrayList<>(recentAlerts);
+		}
+	}
+
+	@Override
+	public long getDroppedAlertCount() {
+		return droppedAlerts.get();
+	}
+
+	/**
+	 * Queues an alert, waiting until the write's deadline for space when the
+	 * dispatcher falls behind and dropping the alert if none frees up. Once
+	 * the deadline has passed, further alerts are only queued if there is
+	 * room straight away.
+	 */
+	private void enqueue(Alert alert, long deadline) throws InterruptedException {
+		long remaining = Math.max(0, deadline - System.nanoTime());
+		if (!queue.offer(alert, remaining, TimeUnit.NANOSECONDS)) {
+			long dropped = droppedAlerts.incrementAndGet();
+			logger.warn("Alert queue full, dropped alert for product {} ({} dropped so far)", alert.productId(), dropped);
+		}
+	}
+
+	private void dispatch() {
+		List<Alert> batch = new ArrayList<>(batchSize);
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				batch.add(queue.take());
+				queue.drainTo(batch, batchSize - 1);
+				deliver(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (Exception e) {
+				logger.error("Failed to dispatch alerts: {}", e.getMessage());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void deliver(List<Alert> batch) {
+		for (Alert alert : batch) {
+			logger.warn("ALERT {} on product {}: {} -> {}", alert.type(), alert.productId(), alert.previousValue(), alert.currentValue());
+		}
+		synchronized (recentAlerts) {
+			for (Alert alert : batch) {
+				recentAlerts.addFirst(alert);
+				if (recentAlerts.size() > recentSize) {
+					recentAlerts.removeLast();
+				}
+			}
+		}
+		for (AlertSink alertSink : alertSinks) {
+			try {
+				alertSink.deliver(List.copyOf(batch));
+			} catch (Exception e) {
+				logger.error("Alert sink failed: {}", e.getMessage());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.prototype.ecommerce.service;
+
+import java.util.List;
+
+import com.prototype.ecommerce.dto.Alert;
+
+/**
+ * Receives batches of alerts from the dispatcher. Register an implementation
+ * as a bean to forward alerts to an external system.
+ */
+public interface AlertSink {
+
+	/**
+	 * Delivers a batch of alerts. Called on the dispatcher thread.
+	 * 
+	 * @param alerts The alerts, oldest first
+	 */
+	void deliver(List<Alert> alerts);
+
+}
@@ -0,0 +1,39 @@
+package com.prototype.ecommerce.service;
+
+import java.util.function.Supplier;
+
+import com.prototype.ecommerce.dto.CatalogueStatistics;
+import com.prototype.ecommerce.event.ProductChangeEvent;
+
+public interface CatalogueStatisticsService {
+
+	/**
+	 * Retrieves the current catalogue statistics. Runs in constant time.
+	 * 
+	 * @return The catalogue statistics
+	 */
+	CatalogueStatistics getStatistics();
+
+	/**
+	 * Runs a product write that publishes its change, ordered against a
+	 * running reconciliation so the change is counted exactly once.
+	 * 
+	 * @param write The write
+	 * @return The result of the write
+	 */
+	<T> T guardWrite(Supplier<T> write);
+
+	/**
+	 * Applies a product change to the running aggregates.
+	 * 
+	 * @param event The product change
+	 */
+	void applyChange(ProductChangeEvent event);
+
+	/**
+	 * Recomputes the aggregates from a full scan of the products table and
+	 * replaces the running values, correcting any drift.
+	 */
+	void reconcile();
+
+}
@@ -0,0 +1,362 @@
+package com.prototype.ecommerce.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.prototype.ecommerce.dto.CatalogueStatistics;
+import com.prototype.ecommerce.dto.ProductSnapshot;
+import com.prototype.ecommerce.event.ProductChangeEvent;
+import com.prototype.ecommerce.exception.ProductServiceException;
+import com.prototype.ecommerce.repository.ProductRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class CatalogueStatisticsServiceImpl implements CatalogueStatisticsService {
+
+	private static final Logger logger = LoggerFactory.getLogger(CatalogueStatisticsServiceImpl.class);
+
+	private static final int WRITE_STRIPES = 64;
+
+	// Longs per stripe, so that each stripe sits on its own cache line
+	private static final int STRIPE_PADDING = 8;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Value("${ecommerce.analytics.price-bands:10,50,100,500}")
+	private double[] priceBandBounds;
+
+	@Value("${ecommerce.analytics.reconcile-page-size:10000}")
+	private int reconcilePageSize;
+
+	@Value("${ecommerce.analytics.parallel-threshold:1000}")
+	private int parallelThreshold;
+
+	private final AtomicReference<Aggregates> aggregates = new AtomicReference<>();
+
+	// Writes share the read lock while a pass runs; the pass takes the write lock to advance its cursor and to swap
+	private final ReadWriteLock scanLock = new ReentrantReadWriteLock();
+
+	// Set for the whole of a reconciliation pass; while it is clear, writes and changes take no lock
+	private volatile boolean scanning;
+
+	// Writes running without the lock, per thread stripe; a pass waits for them to finish before it starts
+	private final AtomicLongArray unguardedWrites = new AtomicLongArray(WRITE_STRIPES * STRIPE_PADDING);
+
+	// Set while a reconciliation scan runs; changes to rows already scanned are applied to it as well
+	private Aggregates rebuilding;
+	private long scanCursor;
+
+	// Changes to rows not scanned yet, settled once the page holding them has been read
+	private final Queue<ProductChangeEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+
+	private volatile Instant lastReconciledAt;
+
+	@PostConstruct
+	public void init() {
+		Arrays.sort(priceBandBounds);
+		aggregates.set(new Aggregates(priceBandBounds));
+	}
+
+	/**
+	 * Builds the statistics from the running aggregates. The cost depends only
+	 * on the number of price bands, not on the number of products.
+	 * 
+	 * @return The catalogue statistics.
+	 */
+	@Override
+	public CatalogueStatistics getStatistics() {
+		Aggregates current = aggregates.get();
+		long productCount = current.productCount.sum();
+		List<CatalogueStatistics.PriceBand> bands = new ArrayList<>(current.bandStock.length);
+		for (int band = 0; band < current.bandStock.length; band++) {
+			double minPrice = band == 0 ? 0.0 : priceBandBounds[band - 1];
+			Double maxPrice = band < priceBandBounds.length ? priceBandBounds[band] : null;
+			bands.add(new CatalogueStatistics.PriceBand(minPrice, maxPrice, current.bandProducts[band].sum(), current.bandStock[band].sum()));
+		}
+		double averageDiscount = productCount == 0 ? 0.0 : current.discountSum.sum() / productCount;
+		return new CatalogueStatistics(productCount, current.totalStock.sum(), current.inventoryValue.sum(),
+				averageDiscount, bands, lastReconciledAt);
+	}
+
+	/**
+	 * Runs a product write and the publication of its change. While no
+	 * reconciliation pass runs, the write only marks its stripe. During a pass
+	 * it holds the read lock from before the commit until its change has been
+	 * applied, so the pass cannot settle the page holding the row in between.
+	 * 
+	 * @param write The write, publishing its change before it returns.
+	 * @return The result of the write.
+	 */
+	@Override
+	public <T> T guardWrite(Supplier<T> write) {
+		int stripe = (int) (Thread.currentThread().getId() % WRITE_STRIPES) * STRIPE_PADDING;
+		unguardedWrites.incrementAndGet(stripe);
+		try {
+			if (!scanning) {
+				return write.get();
+			}
+		} finally {
+			unguardedWrites.decrementAndGet(stripe);
+		}
+		scanLock.readLock().lock();
+		try {
+			return write.get();
+		} finally {
+			scanLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the previous state of the product from the aggregates and adds
+	 * the new one. Runs on the writing thread and never throws. Takes no lock
+	 * unless a reconciliation pass runs.
+	 * 
+	 * @param event The product change.
+	 */
+	@Override
+	@EventListener
+	public void applyChange(ProductChangeEvent event) {
+		if (!scanning) {
+			try {
+				apply(aggregates.get(), event);
+			} catch (Exception e) {
+				logger.error("Failed to update catalogue statistics: {}", e.getMessage());
+			}
+			return;
+		}
+		scanLock.readLock().lock();
+		try {
+			apply(aggregates.get(), event);
+			if (rebuilding != null) {
+				if (event.productId() <= scanCursor) {
+					apply(rebuilding, event);
+				} else {
+					pendingChanges.add(event);
+				}
+			}
+		} catch (Exception e) {
+			logger.error("Failed to update catalogue statistics: {}", e.getMessage());
+		} finally {
+			scanLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Rebuilds the aggregates from a keyset-paged scan of the products table,
+	 * summing each page with a fork-join task, then swaps them in. Runs on
+	 * the scheduler, first right after startup.
+	 * 
+	 * A change to a row inside a page may land before or after the page read.
+	 * Such changes are held back and applied to the rebuild only if the read
+	 * saw the row as it was before the change. Changes to rows in later pages
+	 * are dropped, because those pages are read after the change. Writes
+	 * that started before the pass are waited for, and writes during the pass
+	 * publish their change before the page holding the row can be settled.
+	 */
+	@Override
+	@Scheduled(initialDelayString = "${ecommerce.analytics.initial-reconcile-delay-millis:0}", fixedDelayString = "${ecommerce.analytics.reconcile-millis:300000}")
+	public synchronized void reconcile() {
+		try {
+			logger.info("Reconciling catalogue statistics");
+			scanning = true;
+			awaitUnguardedWrites();
+			Aggregates rebuilt = new Aggregates(priceBandBounds);
+			scanLock.writeLock().lock();
+			try {
+				scanCursor = 0;
+				rebuilding = rebuilt;
+			} finally {
+				scanLock.writeLock().unlock();
+			}
+
+			long afterProductId = 0;
+			List<ProductSnapshot> page;
+			do {
+				page = productRepository.findSnapshotsAfter(afterProductId, PageRequest.of(0, reconcilePageSize));
+				ForkJoinPool.commonPool().invoke(new AggregateTask(page, 0, page.size(), rebuilt));
+				boolean lastPage = page.size() < reconcilePageSize;
+				long pageEnd = lastPage ? Long.MAX_VALUE : page.get(page.size() - 1).productId();
+				settlePage(page, pageEnd, rebuilt);
+				afterProductId = pageEnd;
+			} while (afterProductId != Long.MAX_VALUE);
+
+			Aggregates previous;
+			scanLock.writeLock().lock();
+			try {
+				previous = aggregates.getAndSet(rebuilt);
+				rebuilding = null;
+			} finally {
+				scanLock.writeLock().unlock();
+			}
+			lastReconciledAt = Instant.now();
+			logger.info("Catalogue statistics reconciled: {} products, stock drift {}, value drift {}",
+					rebuilt.productCount.sum(), rebuilt.totalStock.sum() - previous.totalStock.sum(),
+					rebuilt.inventoryValue.sum() - previous.inventoryValue.sum());
+		} catch (Exception e) {
+			logger.error("Failed to reconcile catalogue statistics: {}", e.getMessage());
+			throw new ProductServiceException("Failed to reconcile catalogue statistics: " + e.getMessage());
+		} finally {
+			scanLock.writeLock().lock();
+			try {
+				rebuilding = null;
+				pendingChanges.clear();
+			} finally {
+				scanLock.writeLock().unlock();
+			}
+			scanning = false;
+		}
+	}
+
+	/**
+	 * Waits until no write runs without the lock. Writes starting from now on
+	 * see the pass and take the lock, so the wait is short.
+	 */
+	private void awaitUnguardedWrites() {
+		for (int stripe = 0; stripe < unguardedWrites.length(); stripe += STRIPE_PADDING) {
+			while (unguardedWrites.get(stripe) != 0) {
+				Thread.yield();
+			}
+		}
+	}
+
+	/**
+	 * Moves the scan cursor past a page that has been read and summed, then
+	 * settles the changes held back while it was read.
+	 */
+	private void settlePage(List<ProductSnapshot> page, long pageEnd, Aggregates rebuilt) {
+		scanLock.writeLock().lock();
+		try {
+			scanCursor = pageEnd;
+			if (pendingChanges.isEmpty()) {
+				return;
+			}
+			Map<Long, ProductSnapshot> rows = new HashMap<>();
+			page.forEach(row -> rows.put(row.productId(), row));
+			for (ProductChangeEvent event; (event = pendingChanges.poll()) != null;) {
+				if (event.productId() > pageEnd) {
+					continue;
+				}
+				ProductSnapshot row = rows.get(event.productId());
+				if (Objects.equals(row, event.before())) {
+					apply(rebuilt, event);
+					rows.put(event.productId(), event.after());
+				}
+			}
+		} finally {
+			scanLock.writeLock().unlock();
+		}
+	}
+
+	private static void apply(Aggregates target, ProductChangeEvent event) {
+		if (event.before() != null) {
+			target.add(event.before(), -1);
+		}
+		if (event.after() != null) {
+			target.add(event.after(), 1);
+		}
+	}
+
+	/**
+	 * Striped accumulators for the catalogue aggregates. Concurrent writers
+	 * update separate cells, so updates do not contend on one counter.
+	 */
+	private static final class Aggregates {
+
+		private final double[] priceBandBounds;
+		private final LongAdder productCount = new LongAdder();
+		private final LongAdder totalStock = new LongAdder();
+		private final DoubleAdder inventoryValue = new DoubleAdder();
+		private final DoubleAdder discountSum = new DoubleAdder();
+		private final LongAdder[] bandProducts;
+		private final LongAdder[] bandStock;
+
+		private Aggregates(double[] priceBandBounds) {
+			this.priceBandBounds = priceBandBounds;
+			this.bandProducts = new LongAdder[priceBandBounds.length + 1];
+			this.bandStock = new LongAdder[priceBandBounds.length + 1];
+			for (int band = 0; band < bandStock.length; band++) {
+				bandProducts[band] = new LongAdder();
+				bandStock[band] = new LongAdder();
+			}
+		}
+
+		private void add(ProductSnapshot product, int sign) {
+			int band = band(product.productPrice());
+			productCount.add(sign);
+			totalStock.add((long) sign * product.productQuantityAvailable());
+			inventoryValue.add(sign * product.productPrice() * product.productQuantityAvailable());
+			discountSum.add(sign * product.productDiscountPercentage());
+			bandProducts[band].add(sign);
+			bandStock[band].add((long) sign * product.productQuantityAvailable());
+		}
+
+		private int band(double price) {
+			int index = Arrays.binarySearch(priceBandBounds, price);
+			// An exact match on a bound belongs to the band starting at that bound
+			return index >= 0 ? index + 1 : -index - 1;
+		}
+
+	}
+
+	/**
+	 * Sums a range of snapshots into the target aggregates, splitting in half
+	 * until the range is below the parallel threshold.
+	 */
+	private final class AggregateTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<ProductSnapshot> snapshots;
+		private final int from;
+		private final int to;
+		private final transient Aggregates target;
+
+		private AggregateTask(List<ProductSnapshot> snapshots, int from, int to, Aggregates target) {
+			this.snapshots = snapshots;
+			this.from = from;
+			this.to = to;
+			this.target = target;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= parallelThreshold) {
+				for (int i = from; i < to; i++) {
+					target.add(snapshots.get(i), 1);
+				}
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new AggregateTask(snapshots, from, middle, target), new AggregateTask(snapshots, middle, to, target));
+			}
+		}
+
+	}
+
+}
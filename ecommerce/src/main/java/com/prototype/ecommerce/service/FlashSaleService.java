@@ -0,0 +1,52 @@
+package com.prototype.ecommerce.service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.prototype.ecommerce.dto.FlashSale;
+
+public interface FlashSaleService {
+
+	/**
+	 * Schedules a flash sale window for a set of products.
+	 * 
+	 * @param flashSale The flash sale to schedule
+	 * @return The scheduled flash sale with its assigned ID
+	 */
+	FlashSale scheduleFlashSale(FlashSale flashSale);
+
+	/**
+	 * Retrieves a flash sale by its ID.
+	 * 
+	 * @param saleId The ID of the flash sale to retrieve
+	 * @return An optional containing the flash sale if found, otherwise empty
+	 */
+	Optional<FlashSale> getFlashSaleById(Long saleId);
+
+	/**
+	 * Retrieves the scheduled and active flash sales, plus the most recently
+	 * finished ones.
+	 * 
+	 * @return The flash sales
+	 */
+	Collection<FlashSale> getFlashSales();
+
+	/**
+	 * Cancels a flash sale. An active sale is ended immediately.
+	 * 
+	 * @param saleId The ID of the flash sale to cancel
+	 * @return True if the flash sale was cancelled, otherwise false
+	 */
+	boolean cancelFlashSale(Long saleId);
+
+	/**
+	 * Returns the in-memory sale price of a product while a flash sale is
+	 * active and the stored price is the one the sale was computed from.
+	 * 
+	 * @param productId   The ID of the product
+	 * @param storedPrice The price currently stored for the product
+	 * @return An optional containing the sale price, or empty when the stored price applies
+	 */
+	Optional<Double> getEffectivePrice(Long productId, Double storedPrice);
+
+}
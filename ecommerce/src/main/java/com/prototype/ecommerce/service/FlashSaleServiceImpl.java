@@ -0,0 +1,428 @@
+package com.prototype.ecommerce.service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.prototype.ecommerce.dto.FlashSale;
+import com.prototype.ecommerce.entity.FlashSaleEntity;
+import com.prototype.ecommerce.entity.FlashSalePrice;
+import com.prototype.ecommerce.entity.ProductEntity;
+import com.prototype.ecommerce.exception.ProductServiceException;
+import com.prototype.ecommerce.repository.FlashSaleRepository;
+import com.prototype.ecommerce.repository.ProductRepository;
+import com.prototype.ecommerce.util.TimerWheel;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class FlashSaleServiceImpl implements FlashSaleService {
+
+	private static final Logger logger = LoggerFactory.getLogger(FlashSaleServiceImpl.class);
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private FlashSaleRepository flashSaleRepository;
+
+	@Value("${ecommerce.flash-sale.tick-millis:100}")
+	private long tickMillis;
+
+	@Value("${ecommerce.flash-sale.wheel-size:512}")
+	private int wheelSize;
+
+	@Value("${ecommerce.flash-sale.prewarm-seconds:60}")
+	private long prewarmSeconds;
+
+	@Value("${ecommerce.flash-sale.retained-finished-sales:100}")
+	private int retainedFinishedSales;
+
+	private final Map<Long, FlashSale> flashSales = new ConcurrentHashMap<>();
+	private final Map<Long, List<TimerWheel.Timeout>> timeouts = new ConcurrentHashMap<>();
+	private final AtomicLong saleIdSequence = new AtomicLong();
+	private final Set<Long> prewarmedSales = ConcurrentHashMap.newKeySet();
+
+	// Ended and cancelled sales still listed, oldest first; guarded by this
+	private final Deque<Long> finishedSales = new ArrayDeque<>();
+
+	// Copy-on-write overlay of productId -> sale price, swapped atomically. The products table keeps the
+	// regular price; sale state is stored in flash_sales and restored from there on startup.
+	private final AtomicReference<Map<Long, SalePrice>> effectivePrices = new AtomicReference<>(Collections.emptyMap());
+
+	private TimerWheel timerWheel;
+	private ExecutorService priceLoader;
+	private ExecutorService saleWriter;
+
+	private record SalePrice(Long saleId, Double originalPrice, Double salePrice) {
+	}
+
+	@PostConstruct
+	public void start() {
+		timerWheel = new TimerWheel(tickMillis, wheelSize);
+		priceLoader = newWorker("flash-sale-loader");
+		saleWriter = newWorker("flash-sale-writer");
+		recover();
+	}
+
+	@PreDestroy
+	public void stop() {
+		timerWheel.stop();
+		priceLoader.shutdown();
+		// Let queued state writes finish so the stored status matches what was served
+		saleWriter.shutdown();
+		try {
+			saleWriter.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ExecutorService newWorker(String name) {
+		return Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Schedules a flash sale window. Prices are precomputed shortly before the
+	 * start time and switched in memory at the start time; the stored product
+	 * prices are never changed. The sale itself is stored in the background.
+	 * 
+	 * @param flashSale The flash sale to schedule.
+	 * @return The scheduled flash sale.
+	 * @throws ProductServiceException If the flash sale is invalid or overlaps another sale.
+	 */
+	@Override
+	public synchronized FlashSale scheduleFlashSale(FlashSale flashSale) {
+		try {
+			validate(flashSale);
+			flashSale.setSaleId(saleIdSequence.incrementAndGet());
+			flashSale.setStatus(FlashSale.Status.SCHEDULED);
+			flashSale.setProductIds(Collections.unmodifiableSet(new HashSet<>(flashSale.getProductIds())));
+			logger.info("Scheduling flash sale: {} for products {}", flashSale.getSaleId(), flashSale.getProductIds());
+
+			arm(flashSale);
+			flashSales.put(flashSale.getSaleId(), flashSale);
+			persist(flashSale);
+
+			logger.info("Flash sale scheduled successfully: {}", flashSale.getSaleId());
+			return flashSale;
+		} catch (Exception e) {
+			logger.error("Failed to schedule flash sale: {}", e.getMessage());
+			throw new ProductServiceException("Failed to schedule flash sale: " + e.getMessage());
+		}
+	}
+
+	private void arm(FlashSale flashSale) {
+		Instant prewarmTime = flashSale.getStartTime().minusSeconds(prewarmSeconds);
+		List<TimerWheel.Timeout> saleTimeouts = new ArrayList<>();
+		saleTimeouts.add(timerWheel.schedule(() -> priceLoader.execute(() -> prewarm(flashSale)), prewarmTime));
+		saleTimeouts.add(timerWheel.schedule(() -> activate(flashSale), flashSale.getStartTime()));
+		saleTimeouts.add(timerWheel.schedule(() -> end(flashSale, FlashSale.Status.ENDED), flashSale.getEndTime()));
+		timeouts.put(flashSale.getSaleId(), saleTimeouts);
+	}
+
+	@Override
+	public Optional<FlashSale> getFlashSaleById(Long saleId) {
+		return Optional.ofNullable(flashSales.get(saleId));
+	}
+
+	@Override
+	public Collection<FlashSale> getFlashSales() {
+		return Collections.unmodifiableCollection(flashSales.values());
+	}
+
+	/**
+	 * Cancels a flash sale. Pending timers are cancelled and an active sale is
+	 * ended straight away.
+	 * 
+	 * @param saleId The ID of the flash sale to cancel.
+	 * @return True if the flash sale was cancelled, otherwise false.
+	 */
+	@Override
+	public synchronized boolean cancelFlashSale(Long saleId) {
+		FlashSale flashSale = flashSales.get(saleId);
+		if (flashSale == null || flashSale.getStatus() == FlashSale.Status.ENDED
+				|| flashSale.getStatus() == FlashSale.Status.CANCELLED) {
+			logger.warn("No cancellable flash sale with ID: {}", saleId);
+			return false;
+		}
+		timeouts.getOrDefault(saleId, Collections.emptyList()).forEach(TimerWheel.Timeout::cancel);
+		timeouts.remove(saleId);
+		if (flashSale.getStatus() == FlashSale.Status.ACTIVE) {
+			end(flashSale, FlashSale.Status.CANCELLED);
+		} else {
+			flashSale.setStatus(FlashSale.Status.CANCELLED);
+			prewarmedSales.remove(saleId);
+			persist(flashSale);
+			retire(flashSale);
+		}
+		logger.info("Flash sale cancelled successfully: {}", saleId);
+		return true;
+	}
+
+	/**
+	 * Returns the sale price of a product while a flash sale is active. The
+	 * sale price only applies while the stored price is still the one it was
+	 * computed from, so a price edited during the sale is not masked.
+	 * 
+	 * @param productId   The ID of the product.
+	 * @param storedPrice The price currently stored for the product.
+	 * @return Optional containing the sale price, or empty when the stored price applies.
+	 */
+	@Override
+	public Optional<Double> getEffectivePrice(Long productId, Double storedPrice) {
+		SalePrice salePrice = effectivePrices.get().get(productId);
+		if (salePrice == null || !Objects.equals(salePrice.originalPrice(), storedPrice)) {
+			return Optional.empty();
+		}
+		return Optional.of(salePrice.salePrice());
+	}
+
+	private void validate(FlashSale flashSale) {
+		if (flashSale == null || flashSale.getProductIds() == null || flashSale.getProductIds().isEmpty()) {
+			throw new IllegalArgumentException("Flash sale must contain at least one product");
+		}
+		if (flashSale.getDiscountPercentage() == null || flashSale.getDiscountPercentage() <= 0.0
+				|| flashSale.getDiscountPercentage() >= 100.0) {
+			throw new IllegalArgumentException("Discount percentage must be between 0 and 100");
+		}
+		if (flashSale.getStartTime() == null || flashSale.getEndTime() == null
+				|| !flashSale.getStartTime().isBefore(flashSale.getEndTime())) {
+			throw new IllegalArgumentException("Start time must be before end time");
+		}
+		if (!flashSale.getEndTime().isAfter(Instant.now())) {
+			throw new IllegalArgumentException("End time must be in the future");
+		}
+		// A sale reads its base prices at the prewarm time, so its window starts there
+		Instant prewarmTime = flashSale.getStartTime().minusSeconds(prewarmSeconds);
+		for (FlashSale other : flashSales.values()) {
+			boolean pending = other.getStatus() == FlashSale.Status.SCHEDULED || other.getStatus() == FlashSale.Status.ACTIVE;
+			Instant otherPrewarmTime = other.getStartTime().minusSeconds(prewarmSeconds);
+			boolean overlaps = otherPrewarmTime.isBefore(flashSale.getEndTime()) && prewarmTime.isBefore(other.getEndTime());
+			if (pending && overlaps && !Collections.disjoint(other.getProductIds(), flashSale.getProductIds())) {
+				throw new IllegalArgumentException("Overlaps flash sale with ID: " + other.getSaleId());
+			}
+		}
+	}
+
+	/**
+	 * Reads the current prices and precomputes the sale prices. Runs on the
+	 * background loader ahead of the start time so activation needs no
+	 * database access.
+	 */
+	private void prewarm(FlashSale flashSale) {
+		if (flashSale.getStatus() != FlashSale.Status.SCHEDULED || prewarmedSales.contains(flashSale.getSaleId())) {
+			return;
+		}
+		Map<Long, Double> salePrices = new HashMap<>();
+		Map<Long, Double> originalPrices = new HashMap<>();
+		try {
+			for (ProductEntity product : productRepository.findAllById(flashSale.getProductIds())) {
+				double price = product.getProductPrice() == null ? 0.0 : product.getProductPrice();
+				originalPrices.put(product.getProductId(), price);
+				salePrices.put(product.getProductId(), price - price * (flashSale.getDiscountPercentage() / 100));
+			}
+		} catch (Exception e) {
+			logger.error("Failed to precompute flash sale prices: {}", e.getMessage());
+			return;
+		}
+		if (salePrices.size() < flashSale.getProductIds().size()) {
+			logger.warn("Flash sale {} skips products that no longer exist", flashSale.getSaleId());
+		}
+		synchronized (this) {
+			if (flashSale.getStatus() != FlashSale.Status.SCHEDULED) {
+				return;
+			}
+			flashSale.setOriginalPrices(Collections.unmodifiableMap(originalPrices));
+			flashSale.setSalePrices(Collections.unmodifiableMap(salePrices));
+			prewarmedSales.add(flashSale.getSaleId());
+			persist(flashSale);
+		}
+		logger.info("Flash sale prices precomputed: {}", flashSale.getSaleId());
+	}
+
+	/**
+	 * Runs on the timer wheel thread at the start time. A sale scheduled inside
+	 * the prewarm window has no prices yet; loading them is handed to the
+	 * background loader so the wheel keeps ticking.
+	 */
+	private void activate(FlashSale flashSale) {
+		if (prewarmedSales.contains(flashSale.getSaleId())) {
+			switchIn(flashSale);
+		} else {
+			priceLoader.execute(() -> {
+				prewarm(flashSale);
+				switchIn(flashSale);
+			});
+		}
+	}
+
+	private synchronized void switchIn(FlashSale flashSale) {
+		if (flashSale.getStatus() != FlashSale.Status.SCHEDULED) {
+			return;
+		}
+		if (!prewarmedSales.contains(flashSale.getSaleId())) {
+			logger.error("Flash sale {} has no precomputed prices and is not activated", flashSale.getSaleId());
+			return;
+		}
+		Map<Long, SalePrice> prices = new HashMap<>(effectivePrices.get());
+		flashSale.getSalePrices().forEach((productId, salePrice) -> prices.put(productId,
+				new SalePrice(flashSale.getSaleId(), flashSale.getOriginalPrices().get(productId), salePrice)));
+		effectivePrices.set(Collections.unmodifiableMap(prices));
+		flashSale.setStatus(FlashSale.Status.ACTIVE);
+		persist(flashSale);
+		logger.info("Flash sale activated: {}", flashSale.getSaleId());
+	}
+
+	/**
+	 * Drops the sale's entries from the overlay, which switches the products
+	 * back to their stored prices.
+	 */
+	private synchronized void end(FlashSale flashSale, FlashSale.Status status) {
+		prewarmedSales.remove(flashSale.getSaleId());
+		if (flashSale.getStatus() != FlashSale.Status.ACTIVE) {
+			if (flashSale.getStatus() == FlashSale.Status.SCHEDULED) {
+				flashSale.setStatus(status);
+				timeouts.remove(flashSale.getSaleId());
+				persist(flashSale);
+				retire(flashSale);
+			}
+			return;
+		}
+		Map<Long, SalePrice> prices = new HashMap<>(effectivePrices.get());
+		prices.values().removeIf(salePrice -> salePrice.saleId().equals(flashSale.getSaleId()));
+		effectivePrices.set(Collections.unmodifiableMap(prices));
+		flashSale.setStatus(status);
+		timeouts.remove(flashSale.getSaleId());
+		persist(flashSale);
+		retire(flashSale);
+		logger.info("Flash sale ended: {}", flashSale.getSaleId());
+	}
+
+	/**
+	 * Keeps the most recent finished sales listed and forgets older ones.
+	 * Their stored rows are kept.
+	 */
+	private synchronized void retire(FlashSale flashSale) {
+		finishedSales.addLast(flashSale.getSaleId());
+		while (finishedSales.size() > retainedFinishedSales) {
+			flashSales.remove(finishedSales.removeFirst());
+		}
+	}
+
+	/**
+	 * Stores the current state of a sale on the background writer. Writes run
+	 * in submission order and read the sale when they run, so the last write
+	 * always stores the latest state.
+	 */
+	private void persist(FlashSale flashSale) {
+		saleWriter.execute(() -> {
+			try {
+				flashSaleRepository.save(toEntity(flashSale));
+			} catch (Exception e) {
+				logger.error("Failed to store flash sale {}: {}", flashSale.getSaleId(), e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Restores the scheduled and active sales stored before a restart. Sales
+	 * whose window has passed are ended, active sales resume with their stored
+	 * prices and scheduled sales are armed again.
+	 */
+	private synchronized void recover() {
+		try {
+			Long maxSaleId = flashSaleRepository.findMaxSaleId();
+			saleIdSequence.set(maxSaleId == null ? 0 : maxSaleId);
+			Instant now = Instant.now();
+			List<FlashSaleEntity> pending = flashSaleRepository
+					.findByStatusIn(List.of(FlashSale.Status.SCHEDULED, FlashSale.Status.ACTIVE));
+			for (FlashSaleEntity entity : pending) {
+				FlashSale flashSale = fromEntity(entity);
+				flashSales.put(flashSale.getSaleId(), flashSale);
+				if (!flashSale.getEndTime().isAfter(now)) {
+					end(flashSale, FlashSale.Status.ENDED);
+				} else if (entity.getStatus() == FlashSale.Status.ACTIVE && !flashSale.getSalePrices().isEmpty()) {
+					prewarmedSales.add(flashSale.getSaleId());
+					switchIn(flashSale);
+					timeouts.put(flashSale.getSaleId(), List.of(
+							timerWheel.schedule(() -> end(flashSale, FlashSale.Status.ENDED), flashSale.getEndTime())));
+				} else {
+					// Prices are precomputed again, as the stored ones may predate price edits
+					flashSale.setSalePrices(Collections.emptyMap());
+					flashSale.setOriginalPrices(Collections.emptyMap());
+					arm(flashSale);
+				}
+			}
+			if (!pending.isEmpty()) {
+				logger.info("Restored {} flash sales", pending.size());
+			}
+		} catch (Exception e) {
+			logger.error("Failed to restore flash sales: {}", e.getMessage());
+		}
+	}
+
+	private static FlashSaleEntity toEntity(FlashSale flashSale) {
+		FlashSaleEntity entity = new FlashSaleEntity();
+		entity.setSaleId(flashSale.getSaleId());
+		entity.setDiscountPercentage(flashSale.getDiscountPercentage());
+		entity.setStartTime(flashSale.getStartTime());
+		entity.setEndTime(flashSale.getEndTime());
+		entity.setStatus(flashSale.getStatus());
+		entity.setProductIds(new HashSet<>(flashSale.getProductIds()));
+		Map<Long, Double> originalPrices = flashSale.getOriginalPrices();
+		Map<Long, FlashSalePrice> prices = new HashMap<>();
+		flashSale.getSalePrices().forEach((productId, salePrice) -> prices.put(productId,
+				new FlashSalePrice(originalPrices.get(productId), salePrice)));
+		entity.setPrices(prices);
+		return entity;
+	}
+
+	private static FlashSale fromEntity(FlashSaleEntity entity) {
+		FlashSale flashSale = new FlashSale();
+		flashSale.setSaleId(entity.getSaleId());
+		flashSale.setDiscountPercentage(entity.getDiscountPercentage());
+		flashSale.setStartTime(entity.getStartTime());
+		flashSale.setEndTime(entity.getEndTime());
+		// Resumed sales go through the normal SCHEDULED -> ACTIVE switch
+		flashSale.setStatus(FlashSale.Status.SCHEDULED);
+		flashSale.setProductIds(Collections.unmodifiableSet(new HashSet<>(entity.getProductIds())));
+		Map<Long, Double> salePrices = new HashMap<>();
+		Map<Long, Double> originalPrices = new HashMap<>();
+		entity.getPrices().forEach((productId, price) -> {
+			salePrices.put(productId, price.getSalePrice());
+			originalPrices.put(productId, price.getOriginalPrice());
+		});
+		flashSale.setSalePrices(Collections.unmodifiableMap(salePrices));
+		flashSale.setOriginalPrices(Collections.unmodifiableMap(originalPrices));
+		return flashSale;
+	}
+
+}
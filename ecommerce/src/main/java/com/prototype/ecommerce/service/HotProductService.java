@@ -0,0 +1,58 @@
+package com.prototype.ecommerce.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.prototype.ecommerce.dto.HotProduct;
+import com.prototype.ecommerce.dto.ProductResponse;
+
+public interface HotProductService {
+
+	/**
+	 * Records a read of a product.
+	 * 
+	 * @param productId The ID of the product being read
+	 * @return True if the product is currently one of the hottest products
+	 */
+	boolean recordAccess(Long productId);
+
+	/**
+	 * Retrieves a product held in memory because it is hot.
+	 * 
+	 * @param productId The ID of the product to retrieve
+	 * @return An optional containing the pinned product, otherwise empty
+	 */
+	Optional<ProductResponse> getPinnedProduct(Long productId);
+
+	/**
+	 * Returns the current write version. Read it before loading a product and
+	 * pass it to {@link #pinProduct(ProductResponse, long)}.
+	 * 
+	 * @return The write version
+	 */
+	long getWriteVersion();
+
+	/**
+	 * Holds a hot product in memory, unless a write happened since the given
+	 * version was read.
+	 * 
+	 * @param product      The loaded product
+	 * @param writeVersion The write version read before the product was loaded
+	 */
+	void pinProduct(ProductResponse product, long writeVersion);
+
+	/**
+	 * Drops a product from memory after it was written.
+	 * 
+	 * @param productId The ID of the product that changed
+	 */
+	void evictProduct(Long productId);
+
+	/**
+	 * Retrieves the hottest products, hottest first.
+	 * 
+	 * @return The hot products
+	 */
+	List<HotProduct> getHotProducts();
+
+}
@@ -0,0 +1,154 @@
+package com.prototype.ecommerce.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.prototype.ecommerce.dto.HotProduct;
+import com.prototype.ecommerce.dto.ProductResponse;
+import com.prototype.ecommerce.util.CountMinSketch;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class HotProductServiceImpl implements HotProductService {
+
+	private static final Logger logger = LoggerFactory.getLogger(HotProductServiceImpl.class);
+
+	@Value("${ecommerce.hot-products.capacity:64}")
+	private int capacity;
+
+	@Value("${ecommerce.hot-products.threshold:100}")
+	private long threshold;
+
+	@Value("${ecommerce.hot-products.sketch-depth:4}")
+	private int sketchDepth;
+
+	@Value("${ecommerce.hot-products.sketch-width:4096}")
+	private int sketchWidth;
+
+	private CountMinSketch sketch;
+
+	// productId -> estimated hits, bounded by capacity
+	private final Map<Long, Long> hotKeys = new ConcurrentHashMap<>();
+	private final Map<Long, ProductResponse> pinnedProducts = new ConcurrentHashMap<>();
+	private final AtomicLong writeVersion = new AtomicLong();
+
+	// Estimate of the coldest hot key while the hot set is full; reads below it skip admission
+	private volatile long admissionFloor;
+
+	@PostConstruct
+	public void init() {
+		sketch = new CountMinSketch(sketchDepth, sketchWidth);
+	}
+
+	/**
+	 * Counts a read in the sketch and admits the product to the hot set once
+	 * its estimate reaches the threshold.
+	 * 
+	 * @param productId The ID of the product being read.
+	 * @return True if the product is in the hot set.
+	 */
+	@Override
+	public boolean recordAccess(Long productId) {
+		long estimate = sketch.increment(productId);
+		if (estimate < threshold) {
+			return false;
+		}
+		if (hotKeys.replace(productId, estimate) != null) {
+			return true;
+		}
+		if (hotKeys.size() >= capacity && estimate <= admissionFloor) {
+			return false;
+		}
+		return admit(productId, estimate);
+	}
+
+	@Override
+	public Optional<ProductResponse> getPinnedProduct(Long productId) {
+		return Optional.ofNullable(pinnedProducts.get(productId));
+	}
+
+	@Override
+	public long getWriteVersion() {
+		return writeVersion.get();
+	}
+
+	@Override
+	public void pinProduct(ProductResponse product, long version) {
+		if (!hotKeys.containsKey(product.productId()) || version != writeVersion.get()) {
+			return;
+		}
+		pinnedProducts.put(product.productId(), product);
+		if (version != writeVersion.get()) {
+			// A write raced with the pin; it may have evicted before we put
+			pinnedProducts.remove(product.productId(), product);
+		}
+	}
+
+	@Override
+	public void evictProduct(Long productId) {
+		writeVersion.incrementAndGet();
+		pinnedProducts.remove(productId);
+	}
+
+	@Override
+	public List<HotProduct> getHotProducts() {
+		List<HotProduct> hotProducts = new ArrayList<>();
+		hotKeys.forEach((productId, estimate) -> hotProducts.add(new HotProduct(productId, estimate, pinnedProducts.containsKey(productId))));
+		hotProducts.sort(Comparator.comparingLong(HotProduct::estimatedHits).reversed());
+		return hotProducts;
+	}
+
+	/**
+	 * Halves all counts so that products which cooled down leave the hot set.
+	 */
+	@Scheduled(fixedDelayString = "${ecommerce.hot-products.decay-millis:10000}")
+	public synchronized void decay() {
+		sketch.decay();
+		admissionFloor = 0;
+		hotKeys.replaceAll((productId, estimate) -> sketch.estimate(productId));
+		hotKeys.entrySet().removeIf(entry -> {
+			if (entry.getValue() < threshold) {
+				pinnedProducts.remove(entry.getKey());
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Adds a product to the hot set, replacing the coldest entry when full.
+	 * Only runs when a product first becomes hot, so the linear scan is rare.
+	 */
+	private synchronized boolean admit(Long productId, long estimate) {
+		if (hotKeys.size() >= capacity) {
+			Map.Entry<Long, Long> coldest = null;
+			for (Map.Entry<Long, Long> entry : hotKeys.entrySet()) {
+				if (coldest == null || entry.getValue() < coldest.getValue()) {
+					coldest = entry;
+				}
+			}
+			if (coldest == null || coldest.getValue() >= estimate) {
+				admissionFloor = coldest == null ? 0 : coldest.getValue();
+				return false;
+			}
+			hotKeys.remove(coldest.getKey());
+			pinnedProducts.remove(coldest.getKey());
+		}
+		hotKeys.put(productId, estimate);
+		logger.info("Product became hot: {} ({} estimated hits)", productId, estimate);
+		return true;
+	}
+
+}
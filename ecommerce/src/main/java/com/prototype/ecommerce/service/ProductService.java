@@ -2,6 +2,7 @@ package com.prototype.ecommerce.service;
 
 import java.util.Optional;
 
+import com.prototype.ecommerce.dto.ProductResponse;
 import com.prototype.ecommerce.entity.ProductEntity;
 
 public interface ProductService {
@@ -21,6 +22,15 @@ public interface ProductService {
 	 * @return An optional containing the product entity if found, otherwise empty
 	 */
 	Optional<ProductEntity> getProductById(Long productId);
+
+	/**
+	 * Retrieves a product by its ID as a read-only response, without loading a
+	 * managed entity.
+	 * 
+	 * @param productId The ID of the product to retrieve
+	 * @return An optional containing the product response if found, otherwise empty
+	 */
+	Optional<ProductResponse> getProductResponseById(Long productId);
 	
 	/**
 	 * Updates an existing product.
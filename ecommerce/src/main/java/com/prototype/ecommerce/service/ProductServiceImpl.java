@@ -5,13 +5,18 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.prototype.ecommerce.dto.ProductResponse;
+import com.prototype.ecommerce.dto.ProductSnapshot;
 import com.prototype.ecommerce.entity.ProductEntity;
+import com.prototype.ecommerce.event.ProductChangeEvent;
 import com.prototype.ecommerce.exception.ProductNotFoundException;
 import com.prototype.ecommerce.exception.ProductServiceException;
 import com.prototype.ecommerce.repository.ProductRepository;
+import com.prototype.ecommerce.util.SingleFlight;
 
 @Service
 public class ProductServiceImpl implements ProductService {
@@ -21,6 +26,25 @@ public class ProductServiceImpl implements ProductService {
 	@Autowired
 	private ProductRepository productRepository;
 
+	@Autowired
+	private FlashSaleService flashSaleService;
+
+	@Autowired
+	private HotProductService hotProductService;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private CatalogueStatisticsService catalogueStatisticsService;
+
+	// Concurrent reads of the same product share one lookup
+	private final SingleFlight<Long, LoadedProduct> productLoads = new SingleFlight<>();
+
+	// A loaded product and the write version read just before it was queried
+	private record LoadedProduct(ProductResponse product, long writeVersion) {
+	}
+
 	/**
 	 * Creates a new product.
 	 * 
@@ -35,7 +59,11 @@ public class ProductServiceImpl implements ProductService {
 			} else {
 				logger.info("Creating product: {}", productEntity);
 				resetDefaultValues(productEntity);
-				ProductEntity createdProduct = productRepository.save(productEntity);
+				ProductEntity createdProduct = catalogueStatisticsService.guardWrite(() -> {
+					ProductEntity savedProduct = productRepository.save(productEntity);
+					eventPublisher.publishEvent(new ProductChangeEvent(null, ProductSnapshot.from(savedProduct)));
+					return savedProduct;
+				});
 				logger.info("Product created successfully: {}", createdProduct);
 				return createdProduct;
 			}
@@ -73,6 +101,53 @@ public class ProductServiceImpl implements ProductService {
 		}
 	}
 
+	/**
+	 * Retrieves a product by its ID as a read-only response.
+	 * 
+	 * Hot products are served from memory. Otherwise concurrent reads of the
+	 * same product share one lookup, so no transaction is opened here: a
+	 * waiting reader would only hold a connection for nothing.
+	 * 
+	 * @param productId The ID of the product to retrieve.
+	 * @return Optional containing the retrieved product, if found.
+	 */
+	@Override
+	public Optional<ProductResponse> getProductResponseById(Long productId) {
+		try {
+			logger.info("Fetching product with ID: {}", productId);
+			boolean hot = hotProductService.recordAccess(productId);
+			Optional<ProductResponse> pinned = hotProductService.getPinnedProduct(productId);
+			if (pinned.isPresent()) {
+				return pinned.map(this::applyEffectivePrice);
+			}
+			// The version is read by the caller that runs the query, so callers joining its load pin with that version
+			LoadedProduct loaded = productLoads.execute(productId, () -> {
+				long writeVersion = hotProductService.getWriteVersion();
+				return new LoadedProduct(loadProductResponse(productId), writeVersion);
+			});
+			if (hot) {
+				hotProductService.pinProduct(loaded.product(), loaded.writeVersion());
+			}
+			return Optional.of(applyEffectivePrice(loaded.product()));
+		} catch (ProductNotFoundException e) {
+			throw e;
+		} catch (Exception e) {
+			logger.error("Failed to fetch product: {}", e.getMessage());
+			throw new ProductServiceException("Failed to fetch product: " + e.getMessage());
+		}
+	}
+
+	private ProductResponse loadProductResponse(Long productId) {
+		Optional<ProductResponse> product = productRepository.findProductResponseById(productId);
+		if (product.isPresent()) {
+			logger.info("Product found: {}", product.get());
+			return product.get();
+		} else {
+			logger.warn("Product not found with ID: {}", productId);
+			throw new ProductNotFoundException("Product not found with ID: " + productId);
+		}
+	}
+
 	/**
 	 * Updates an existing product.
 	 * 
@@ -86,11 +161,17 @@ public class ProductServiceImpl implements ProductService {
 		try {
 			logger.info("Updating product with ID: {}", productId);
 			ProductEntity existingProduct = productRepository.findById(productId).orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
+			ProductSnapshot before = ProductSnapshot.from(existingProduct);
 			existingProduct.setProductName(productEntity.getProductName());
 			existingProduct.setProductDescription(productEntity.getProductDescription());
 			existingProduct.setProductPrice(productEntity.getProductPrice());
 			existingProduct.setProductQuantityAvailable(productEntity.getProductQuantityAvailable());
-			productRepository.save(existingProduct);
+			ProductEntity updatedProduct = catalogueStatisticsService.guardWrite(() -> {
+				ProductEntity savedProduct = productRepository.save(existingProduct);
+				hotProductService.evictProduct(productId);
+				eventPublisher.publishEvent(new ProductChangeEvent(before, ProductSnapshot.from(savedProduct)));
+				return savedProduct;
+			});
 			logger.info("Product updated successfully");
 		} catch (Exception e) {
 			logger.error("Failed to update product: {}", e.getMessage());
@@ -110,8 +191,14 @@ public class ProductServiceImpl implements ProductService {
 	public boolean deleteProductById(Long productId) {
 		try {
 			logger.info("Deleting product with ID: {}", productId);
-			if (productRepository.existsById(productId)) {
-				productRepository.deleteById(productId);
+			Optional<ProductEntity> existingProduct = productRepository.findById(productId);
+			if (existingProduct.isPresent()) {
+				catalogueStatisticsService.guardWrite(() -> {
+					productRepository.delete(existingProduct.get());
+					hotProductService.evictProduct(productId);
+					eventPublisher.publishEvent(new ProductChangeEvent(ProductSnapshot.from(existingProduct.get()), null));
+					return null;
+				});
 				logger.info("Product deleted successfully");
 				return true; // Product found
 			} else {
@@ -140,6 +227,7 @@ public class ProductServiceImpl implements ProductService {
 		try {
 			logger.info("Applying discount or tax to product with ID: {}", productId);
 			ProductEntity existingProduct = productRepository.findById(productId).orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
+			ProductSnapshot before = ProductSnapshot.from(existingProduct);
 			// updated product details
 			existingProduct.setProductName(productEntity.getProductName());
 			existingProduct.setProductDescription(productEntity.getProductDescription());
@@ -156,7 +244,12 @@ public class ProductServiceImpl implements ProductService {
 				existingProduct.setProductPrice(existingProduct.getProductPrice() + tax);
 				existingProduct.setProductTaxRate(productEntity.getProductTaxRate());
 			}
-			ProductEntity updatedProduct = productRepository.save(existingProduct);
+			ProductEntity updatedProduct = catalogueStatisticsService.guardWrite(() -> {
+				ProductEntity savedProduct = productRepository.save(existingProduct);
+				hotProductService.evictProduct(productId);
+				eventPublisher.publishEvent(new ProductChangeEvent(before, ProductSnapshot.from(savedProduct)));
+				return savedProduct;
+			});
 			logger.info("Discount or tax applied successfully: {}", updatedProduct);
 			return updatedProduct;
 		} catch (Exception e) {
@@ -165,6 +258,19 @@ public class ProductServiceImpl implements ProductService {
 		}
 	}
 
+	/**
+	 * Replaces the stored price with the flash sale price, if a flash sale is
+	 * active for this product.
+	 * 
+	 * @param product The product as stored.
+	 * @return The product with its effective price.
+	 */
+	private ProductResponse applyEffectivePrice(ProductResponse product) {
+		return flashSaleService.getEffectivePrice(product.productId(), product.productPrice())
+				.map(price -> new ProductResponse(product.productId(), product.productName(), product.productDescription(), price, product.productQuantityAvailable()))
+				.orElse(product);
+	}
+
 	public void resetDefaultValues(ProductEntity productEntity) {
 		try {
 		if (productEntity.getProductName() == null || productEntity.getProductName() == " " || productEntity.getProductName().trim().isEmpty() || productEntity.getProductName().trim().isBlank()) {
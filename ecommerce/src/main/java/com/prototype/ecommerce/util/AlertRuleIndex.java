@@ -0,0 +1,114 @@
+package com.prototype.ecommerce.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.prototype.ecommerce.dto.AlertRule;
+
+/**
+ * Alert rules indexed by product and sorted by threshold.
+ * 
+ * A write only visits the rules whose threshold it actually crossed: the
+ * product lookup is a hash hit and the threshold lookup a range query on a
+ * skip list, so matching costs O(log rules + matches) rather than a pass
+ * over every rule.
+ */
+public class AlertRuleIndex {
+
+	// Key used for rules that apply to every product
+	private static final Long ALL_PRODUCTS = Long.MIN_VALUE;
+
+	private final Map<Long, Map<AlertRule.Type, NavigableMap<Double, Set<AlertRule>>>> rules = new ConcurrentHashMap<>();
+
+	public void add(AlertRule rule) {
+		// Insert inside compute: remove() drops a set once it is empty, and a rule added to a dropped set is lost
+		thresholds(rule.getProductId(), rule.getType(), true).compute(rule.getThreshold(), (threshold, matching) -> {
+			Set<AlertRule> updated = matching == null ? ConcurrentHashMap.newKeySet() : matching;
+			updated.add(rule);
+			return updated;
+		});
+	}
+
+	public void remove(AlertRule rule) {
+		NavigableMap<Double, Set<AlertRule>> thresholds = thresholds(rule.getProductId(), rule.getType(), false);
+		if (thresholds != null) {
+			thresholds.computeIfPresent(rule.getThreshold(), (threshold, matching) -> {
+				matching.remove(rule);
+				return matching.isEmpty() ? null : matching;
+			});
+		}
+	}
+
+	/**
+	 * Finds the LOW_STOCK rules whose threshold lies in
+	 * (currentQuantity, previousQuantity], i.e. that this write fell below.
+	 * 
+	 * @param productId        The ID of the product that changed.
+	 * @param previousQuantity The quantity before the write, or null if the product was created.
+	 * @param currentQuantity  The quantity after the write.
+	 * @return The matching rules.
+	 */
+	public List<AlertRule> matchLowStock(Long productId, Integer previousQuantity, int currentQuantity) {
+		if (previousQuantity != null && previousQuantity <= currentQuantity) {
+			return Collections.emptyList();
+		}
+		List<AlertRule> matches = new ArrayList<>();
+		for (Long key : new Long[] { productId, ALL_PRODUCTS }) {
+			NavigableMap<Double, Set<AlertRule>> thresholds = thresholds(key, AlertRule.Type.LOW_STOCK, false);
+			if (thresholds == null) {
+				continue;
+			}
+			Map<Double, Set<AlertRule>> crossed = previousQuantity == null
+					? thresholds.tailMap((double) currentQuantity, false)
+					: thresholds.subMap((double) currentQuantity, false, (double) previousQuantity, true);
+			crossed.values().forEach(matches::addAll);
+		}
+		return matches;
+	}
+
+	/**
+	 * Finds the PRICE_DROP rules whose threshold is at most the percentage
+	 * the price dropped by.
+	 * 
+	 * @param productId     The ID of the product that changed.
+	 * @param dropPercentage How far the price dropped, in percent.
+	 * @return The matching rules.
+	 */
+	public List<AlertRule> matchPriceDrop(Long productId, double dropPercentage) {
+		if (dropPercentage <= 0.0) {
+			return Collections.emptyList();
+		}
+		List<AlertRule> matches = new ArrayList<>();
+		for (Long key : new Long[] { productId, ALL_PRODUCTS }) {
+			NavigableMap<Double, Set<AlertRule>> thresholds = thresholds(key, AlertRule.Type.PRICE_DROP, false);
+			if (thresholds != null) {
+				thresholds.headMap(dropPercentage, true).values().forEach(matches::addAll);
+			}
+		}
+		return matches;
+	}
+
+	public Collection<AlertRule> getRules() {
+		List<AlertRule> all = new ArrayList<>();
+		rules.values().forEach(byType -> byType.values().forEach(thresholds -> thresholds.values().forEach(all::addAll)));
+		return all;
+	}
+
+	private NavigableMap<Double, Set<AlertRule>> thresholds(Long productId, AlertRule.Type type, boolean create) {
+		Long key = productId == null ? ALL_PRODUCTS : productId;
+		if (create) {
+			return rules.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+					.computeIfAbsent(type, t -> new ConcurrentSkipListMap<>());
+		}
+		Map<AlertRule.Type, NavigableMap<Double, Set<AlertRule>>> byType = rules.get(key);
+		return byType == null ? null : byType.get(type);
+	}
+
+}
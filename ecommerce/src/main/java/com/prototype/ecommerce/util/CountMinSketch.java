@@ -0,0 +1,81 @@
+package com.prototype.ecommerce.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe count-min sketch for long keys.
+ * 
+ * Estimates never undercount; they overcount by at most a small fraction of
+ * the total count, depending on the width. Memory is fixed at
+ * {@code depth * width} counters however many keys are seen.
+ */
+public class CountMinSketch {
+
+	private static final long[] SEEDS = { 0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L,
+			0xD6E8FEB86659FD93L, 0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL };
+
+	private final int depth;
+	private final int mask;
+	private final int width;
+	private final AtomicLongArray counters;
+
+	/**
+	 * @param depth The number of hash rows, at most 8.
+	 * @param width The number of counters per row, rounded up to a power of two.
+	 */
+	public CountMinSketch(int depth, int width) {
+		if (depth <= 0 || depth > SEEDS.length || width <= 0) {
+			throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length + " and width must be positive");
+		}
+		this.depth = depth;
+		this.width = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+		this.mask = this.width - 1;
+		this.counters = new AtomicLongArray(depth * this.width);
+	}
+
+	/**
+	 * Counts one occurrence of the key.
+	 * 
+	 * @param key The key.
+	 * @return The estimated count of the key, including this occurrence.
+	 */
+	public long increment(long key) {
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * @param key The key.
+	 * @return The estimated count of the key.
+	 */
+	public long estimate(long key) {
+		long estimate = Long.MAX_VALUE;
+		for (int row = 0; row < depth; row++) {
+			estimate = Math.min(estimate, counters.get(index(row, key)));
+		}
+		return estimate;
+	}
+
+	/**
+	 * Halves every counter, so that old traffic fades out.
+	 */
+	public void decay() {
+		for (int i = 0; i < counters.length(); i++) {
+			counters.updateAndGet(i, count -> count >>> 1);
+		}
+	}
+
+	private int index(int row, long key) {
+		long hash = key ^ SEEDS[row];
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return row * width + (int) (hash & mask);
+	}
+
+}
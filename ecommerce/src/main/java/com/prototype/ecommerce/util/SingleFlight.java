@@ -0,0 +1,69 @@
+package com.prototype.ecommerce.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight load.
+ * 
+ * The first caller for a key runs the loader; callers arriving while it is
+ * running wait for and share its result, or its exception. Nothing is cached
+ * once the load completes.
+ * 
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Runs the loader for the key, or joins a load already in flight.
+	 * 
+	 * @param key    The key to load.
+	 * @param loader The loader to run if no load is in flight.
+	 * @return The loaded value.
+	 */
+	public V execute(K key, Supplier<V> loader) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			return join(existing);
+		}
+		try {
+			V value = loader.get();
+			future.complete(value);
+			return value;
+		} catch (Throwable t) {
+			// Errors too, otherwise callers waiting on the future would block forever
+			future.completeExceptionally(t);
+			throw t;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * @return The number of loads currently in flight.
+	 */
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+}
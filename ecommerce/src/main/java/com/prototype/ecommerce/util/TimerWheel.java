@@ -0,0 +1,151 @@
+package com.prototype.ecommerce.util;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel driven by a single ticker thread.
+ * 
+ * Scheduling is O(1) and any number of pending timeouts share the one
+ * thread, so a flash sale costs a few queue entries instead of a thread.
+ * Tasks run on the ticker thread and must be short; hand anything slow off
+ * to another executor.
+ */
+public class TimerWheel {
+
+	private static final Logger logger = LoggerFactory.getLogger(TimerWheel.class);
+
+	private final long tickMillis;
+	private final int mask;
+	private final Queue<Timeout>[] buckets;
+	private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+	private final ScheduledExecutorService ticker;
+	private final long startMillis;
+
+	// Only touched by the ticker thread
+	private long currentTick;
+
+	/**
+	 * Creates and starts a timer wheel.
+	 * 
+	 * @param tickMillis The duration of one tick in milliseconds.
+	 * @param wheelSize  The number of buckets, rounded up to a power of two.
+	 */
+	@SuppressWarnings("unchecked")
+	public TimerWheel(long tickMillis, int wheelSize) {
+		if (tickMillis <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+		}
+		int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+		this.tickMillis = tickMillis;
+		this.mask = size - 1;
+		this.buckets = new Queue[size];
+		for (int i = 0; i < size; i++) {
+			buckets[i] = new ConcurrentLinkedQueue<>();
+		}
+		this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "timer-wheel");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.startMillis = System.currentTimeMillis();
+		ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Schedules a task to run at the given time, or on the next tick if the
+	 * time has already passed.
+	 * 
+	 * @param task     The task to run.
+	 * @param deadline The time at which to run the task.
+	 * @return A handle that can be used to cancel the task.
+	 */
+	public Timeout schedule(Runnable task, Instant deadline) {
+		Timeout timeout = new Timeout(task, deadline.toEpochMilli());
+		pending.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Stops the ticker thread. Pending timeouts are discarded.
+	 */
+	public void stop() {
+		ticker.shutdownNow();
+	}
+
+	private void tick() {
+		try {
+			transferPending();
+			Iterator<Timeout> iterator = buckets[(int) (currentTick & mask)].iterator();
+			while (iterator.hasNext()) {
+				Timeout timeout = iterator.next();
+				if (timeout.cancelled) {
+					iterator.remove();
+				} else if (timeout.remainingRounds <= 0) {
+					iterator.remove();
+					run(timeout);
+				} else {
+					timeout.remainingRounds--;
+				}
+			}
+			currentTick++;
+		} catch (Exception e) {
+			logger.error("Timer wheel tick failed: {}", e.getMessage());
+		}
+	}
+
+	private void transferPending() {
+		Timeout timeout;
+		while ((timeout = pending.poll()) != null) {
+			if (timeout.cancelled) {
+				continue;
+			}
+			long deadlineTick = Math.max(currentTick, (timeout.deadlineMillis - startMillis + tickMillis - 1) / tickMillis);
+			long ticks = deadlineTick - currentTick;
+			timeout.remainingRounds = ticks / buckets.length;
+			buckets[(int) (deadlineTick & mask)].add(timeout);
+		}
+	}
+
+	private void run(Timeout timeout) {
+		try {
+			timeout.task.run();
+		} catch (Exception e) {
+			logger.error("Timer wheel task failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Handle to a scheduled task.
+	 */
+	public static final class Timeout {
+
+		private final Runnable task;
+		private final long deadlineMillis;
+		private volatile boolean cancelled;
+		private long remainingRounds;
+
+		private Timeout(Runnable task, long deadlineMillis) {
+			this.task = task;
+			this.deadlineMillis = deadlineMillis;
+		}
+
+		public void cancel() {
+			cancelled = true;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.prototype.ecommerce.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.ecommerce.ECommerceApplication;
+import com.prototype.ecommerce.entity.ProductEntity;
+import com.prototype.ecommerce.repository.ProductRepository;
+
+/**
+ * Compares the two GET read paths end to end against the embedded database:
+ * the old {@code findById} inside a read-only transaction followed by
+ * serialising the managed entity, and the {@code findProductResponseById}
+ * constructor projection followed by the streamed ProductResponse
+ * serializer. Run with the gc profiler to compare allocation per read.
+ * 
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.prototype.ecommerce.benchmark.ProductReadPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class ProductReadPathBenchmark {
+
+    private static final int PRODUCTS = 10000;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ECommerceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            ProductEntity productEntity = new ProductEntity();
+            productEntity.setProductName("Product " + i);
+            productEntity.setProductDescription("Benchmark product " + i);
+            productEntity.setProductPrice(1.0 + (i % 1000));
+            productEntity.setProductQuantityAvailable(i % 500);
+            productEntity.setProductDiscountPercentage(0.0);
+            productEntity.setProductTaxRate(0.0);
+            products.add(productEntity);
+        }
+        productRepository.saveAll(products);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * The read path before the projection: hydrate a managed entity and let
+     * Jackson serialise it reflectively.
+     */
+    @Benchmark
+    public byte[] entityReadPath() {
+        long productId = 1 + ThreadLocalRandom.current().nextInt(PRODUCTS);
+        return readOnlyTransaction.execute(status -> {
+            try {
+                return objectMapper.writeValueAsBytes(productRepository.findById(productId).orElseThrow());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * The current read path: constructor projection and streamed serializer.
+     */
+    @Benchmark
+    public byte[] projectionReadPath() throws Exception {
+        long productId = 1 + ThreadLocalRandom.current().nextInt(PRODUCTS);
+        return objectMapper.writeValueAsBytes(productRepository.findProductResponseById(productId).orElseThrow());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProductReadPathBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
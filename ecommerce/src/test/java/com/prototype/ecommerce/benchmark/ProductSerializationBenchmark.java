@@ -0,0 +1,77 @@
+package com.prototype.ecommerce.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.ecommerce.dto.ProductResponse;
+import com.prototype.ecommerce.entity.ProductEntity;
+
+/**
+ * Compares serialising the managed {@link ProductEntity} with the streamed
+ * {@link ProductResponse} used by the product GET endpoints.
+ * 
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.prototype.ecommerce.benchmark.ProductSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ProductEntity productEntity;
+    private ProductResponse productResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+
+        productEntity = new ProductEntity();
+        productEntity.setProductId(42L);
+        productEntity.setProductName("Test Product");
+        productEntity.setProductDescription("Test Description for a product with a realistic amount of text");
+        productEntity.setProductPrice(199.99);
+        productEntity.setProductQuantityAvailable(250);
+        productEntity.setProductDiscountPercentage(10.0);
+        productEntity.setProductTaxRate(0.0);
+
+        productResponse = ProductResponse.from(productEntity);
+    }
+
+    @Benchmark
+    public byte[] serializeEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productEntity);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productResponse);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProductSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
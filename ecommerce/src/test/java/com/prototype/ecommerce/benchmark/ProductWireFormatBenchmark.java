@@ -0,0 +1,144 @@
+package com.prototype.ecommerce.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.prototype.ecommerce.dto.Alert;
+import com.prototype.ecommerce.dto.AlertRule;
+import com.prototype.ecommerce.dto.HotProduct;
+import com.prototype.ecommerce.dto.ProductResponse;
+
+/**
+ * Compares JSON, CBOR and gzip/deflate-compressed encodings for payloads the
+ * API actually returns: a single product (below the compression threshold),
+ * a full hot-product list (ecommerce.hot-products.capacity entries) and a
+ * full recent-alerts list (ecommerce.alerts.recent-size entries). Payload
+ * sizes are printed once per trial.
+ * 
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.prototype.ecommerce.benchmark.ProductWireFormatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductWireFormatBenchmark {
+
+    @Param({ "product", "hotProducts", "recentAlerts" })
+    private String endpoint;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private Object payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = new ObjectMapper().findAndRegisterModules();
+        cborMapper = new ObjectMapper(new CBORFactory()).findAndRegisterModules();
+
+        payload = switch (endpoint) {
+        case "product" -> new ProductResponse(1L, "Test Product 1",
+                "Test Description for a product with a realistic amount of text", 200.99, 10);
+        case "hotProducts" -> hotProducts(64);
+        case "recentAlerts" -> recentAlerts(200);
+        default -> throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        };
+
+        System.out.printf("%n%s: json=%d bytes, cbor=%d bytes, json+gzip=%d bytes, json+deflate=%d bytes, cbor+gzip=%d bytes%n",
+                endpoint, json().length, cbor().length, gzip(json()).length, deflate(json()).length,
+                gzip(cbor()).length);
+    }
+
+    private static List<HotProduct> hotProducts(int count) {
+        List<HotProduct> hotProducts = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            hotProducts.add(new HotProduct(i * 37, 10_000 - i * 100, i % 4 != 0));
+        }
+        return hotProducts;
+    }
+
+    private static List<Alert> recentAlerts(int count) {
+        Instant now = Instant.now();
+        List<Alert> alerts = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            boolean lowStock = i % 2 == 0;
+            alerts.add(new Alert(i % 10 + 1, i * 37, lowStock ? AlertRule.Type.LOW_STOCK : AlertRule.Type.PRICE_DROP,
+                    lowStock ? 12.0 : 199.99, lowStock ? 4.0 : 149.99, now.minusMillis(i * 250)));
+        }
+        return alerts;
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return jsonMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cborMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(json());
+    }
+
+    @Benchmark
+    public byte[] jsonDeflate() throws IOException {
+        return deflate(json());
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cbor());
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProductWireFormatBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
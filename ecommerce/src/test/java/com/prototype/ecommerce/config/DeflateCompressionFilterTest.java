@@ -0,0 +1,120 @@
+package com.prototype.ecommerce.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class DeflateCompressionFilterTest {
+
+    private DeflateCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new DeflateCompressionFilter();
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "minResponseSize", DataSize.ofBytes(1024));
+        ReflectionTestUtils.setField(filter, "mimeTypes", new String[] { "application/json", "application/cbor" });
+    }
+
+    @Test
+    void testDeflatesLargeResponseForDeflateOnlyClient() throws Exception {
+        String body = jsonOfLength(4096);
+        MockHttpServletResponse response = filter(request("deflate"), body);
+
+        assertEquals("deflate", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getContentAsByteArray().length < body.length());
+        assertEquals(body, inflate(response.getContentAsByteArray()));
+    }
+
+    @Test
+    void testLeavesSmallResponseUncompressed() throws Exception {
+        String body = jsonOfLength(200);
+        MockHttpServletResponse response = filter(request("deflate"), body);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    void testLeavesGzipClientsToTheConnector() throws Exception {
+        String body = jsonOfLength(4096);
+        MockHttpServletResponse response = filter(request("gzip, deflate"), body);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    void testIgnoresDeflateOfferedWithZeroQuality() throws Exception {
+        String body = jsonOfLength(4096);
+        MockHttpServletResponse response = filter(request("deflate;q=0"), body);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    void testIgnoresDeflateWithMalformedQuality() throws Exception {
+        String body = jsonOfLength(4096);
+
+        for (String acceptEncoding : new String[] { "deflate;q=abc", "deflate;q=" }) {
+            MockHttpServletResponse response = filter(request(acceptEncoding), body);
+
+            assertEquals(200, response.getStatus());
+            assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(body, response.getContentAsString());
+        }
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/prototype/ecommerce/alerts/getRules");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return request;
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, String body) throws Exception {
+        Servlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static String jsonOfLength(int length) {
+        StringBuilder json = new StringBuilder("[");
+        while (json.length() < length - 1) {
+            json.append("{\"productId\":1},");
+        }
+        json.setLength(json.length() - 1);
+        return json.append(']').toString();
+    }
+
+    private static String inflate(byte[] bytes) throws IOException {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(inflater.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
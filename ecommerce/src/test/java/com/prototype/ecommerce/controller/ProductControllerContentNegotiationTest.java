@@ -0,0 +1,94 @@
+package com.prototype.ecommerce.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.prototype.ecommerce.dto.ProductResponse;
+import com.prototype.ecommerce.exception.ProductNotFoundException;
+import com.prototype.ecommerce.service.ProductService;
+
+public class ProductControllerContentNegotiationTest {
+
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+    private MockMvc mockMvc;
+    private ProductService productService;
+    private ObjectMapper cborMapper;
+
+    @BeforeEach
+    void setUp() {
+        productService = mock(ProductService.class);
+        ProductController productController = new ProductController();
+        ReflectionTestUtils.setField(productController, "productService", productService);
+        mockMvc = MockMvcBuilders.standaloneSetup(productController).build();
+        cborMapper = new ObjectMapper(new CBORFactory());
+    }
+
+    @Test
+    void testGetProductById_Cbor() throws Exception {
+        when(productService.getProductResponseById(1L))
+                .thenReturn(Optional.of(new ProductResponse(1L, "Test Product", "Test Description", 10.0, 100)));
+
+        MvcResult result = mockMvc.perform(get("/prototype/ecommerce/products/getProduct/1").accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode product = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1L, product.get("productId").asLong());
+        assertEquals("Test Product", product.get("productName").asText());
+        assertEquals(10.0, product.get("productPrice").asDouble());
+        assertFalse(product.has("productDiscountPercentage"));
+    }
+
+    @Test
+    void testGetProductById_JsonIsDefault() throws Exception {
+        when(productService.getProductResponseById(1L))
+                .thenReturn(Optional.of(new ProductResponse(1L, "Test Product", "Test Description", 10.0, 100)));
+
+        mockMvc.perform(get("/prototype/ecommerce/products/getProduct/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.productName").value("Test Product"));
+    }
+
+    @Test
+    void testGetProductById_ErrorIsPlainTextForCborClient() throws Exception {
+        when(productService.getProductResponseById(999L)).thenThrow(new ProductNotFoundException("Product not found with ID: 999"));
+
+        mockMvc.perform(get("/prototype/ecommerce/products/getProduct/999").accept(APPLICATION_CBOR))
+                .andExpect(status().isInternalServerError())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(Matchers.containsString("Failed to fetch product")));
+    }
+
+    @Test
+    void testUpdateProduct_MessageIsPlainTextForCborClient() throws Exception {
+        doNothing().when(productService).updateProduct(eq(1L), any());
+
+        mockMvc.perform(put("/prototype/ecommerce/products/update/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productName\":\"Updated\",\"productDescription\":\"Updated\",\"productPrice\":20.0,\"productQuantityAvailable\":2}")
+                        .accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Product updated successfully"));
+    }
+}
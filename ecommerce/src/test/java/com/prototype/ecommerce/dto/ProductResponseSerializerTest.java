@@ -0,0 +1,63 @@
+package com.prototype.ecommerce.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.prototype.ecommerce.entity.ProductEntity;
+
+public class ProductResponseSerializerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void testSerialize_MatchesEntityJson() throws Exception {
+        ProductEntity productEntity = new ProductEntity();
+        productEntity.setProductId(1L);
+        productEntity.setProductName("Test Product");
+        productEntity.setProductDescription("Test Description");
+        productEntity.setProductPrice(10.0);
+        productEntity.setProductQuantityAvailable(100);
+        productEntity.setProductDiscountPercentage(5.0);
+        productEntity.setProductTaxRate(2.0);
+
+        JsonNode entityJson = objectMapper.readTree(objectMapper.writeValueAsString(productEntity));
+        JsonNode responseJson = objectMapper.readTree(objectMapper.writeValueAsString(ProductResponse.from(productEntity)));
+
+        assertEquals(entityJson, responseJson);
+        assertFalse(responseJson.has("productDiscountPercentage"));
+        assertFalse(responseJson.has("productTaxRate"));
+    }
+
+    @Test
+    void testSerialize_NullValues() throws Exception {
+        ProductResponse productResponse = new ProductResponse(null, null, null, null, null);
+
+        JsonNode responseJson = objectMapper.readTree(objectMapper.writeValueAsString(productResponse));
+
+        assertTrue(responseJson.get("productId").isNull());
+        assertTrue(responseJson.get("productPrice").isNull());
+        assertTrue(responseJson.get("productQuantityAvailable").isNull());
+    }
+
+    @Test
+    void testSerialize_CborMatchesJson() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        ProductResponse productResponse = new ProductResponse(1L, "Test Product", "Test Description", 10.0, 100);
+
+        byte[] cbor = cborMapper.writeValueAsBytes(productResponse);
+        byte[] json = objectMapper.writeValueAsBytes(productResponse);
+
+        assertEquals(objectMapper.readTree(json), cborMapper.readTree(cbor));
+        assertTrue(cbor.length < json.length);
+    }
+}
@@ -0,0 +1,122 @@
+package com.prototype.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Writes the results of a load-test run.
+ *
+ * The summary file has a fixed layout with one row per operation, so two
+ * runs can be compared with a plain diff. Each operation also gets an
+ * HdrHistogram percentile distribution (.hgrm) that can be plotted or
+ * compared with the standard HdrHistogram tools. Dropped arrivals are part
+ * of the histograms at the highest trackable latency, and the run is
+ * flagged when there are any.
+ */
+public final class LoadTestReport {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9, 99.99 };
+
+    private LoadTestReport() {
+    }
+
+    /**
+     * @return The path of the summary file.
+     */
+    public static Path write(LoadTestSettings settings, OpenLoopDriver driver, OpenLoopDriver.Timing timing)
+            throws IOException {
+        String runId = LocalDateTime.now().format(TIMESTAMP);
+        Path runDir = Files.createDirectories(settings.reportDir().resolve(runId));
+
+        StringWriter summary = new StringWriter();
+        PrintWriter out = new PrintWriter(summary);
+        out.printf(Locale.ROOT, "run=%s%n", runId);
+        out.printf(Locale.ROOT, "products=%d concurrency=%d rate=%.1f/s warmup=%ds duration=%ds seed=%d mix=%s%n",
+                settings.products(), settings.concurrency(), settings.rate(), settings.warmup().toSeconds(),
+                settings.duration().toSeconds(), settings.seed(), settings.mix());
+        out.printf(Locale.ROOT, "window=%.1fs drain=%.1fs java=%s cpus=%d%n", seconds(timing.arrivalWindow()),
+                seconds(timing.drain()), System.getProperty("java.version"), Runtime.getRuntime().availableProcessors());
+
+        out.printf(Locale.ROOT, "%-10s %9s %9s %7s %7s %7s %10s %10s %10s %10s %10s %10s %10s%n", "operation",
+                "requests", "req/s", "404", "errors", "dropped", "mean_ms", "p50_ms", "p90_ms", "p99_ms", "p99.9_ms",
+                "p99.99_ms", "max_ms");
+
+        // Per-operation req/s counts completed requests over the arrival window, so the drain does not dilute it
+        Histogram overall = null;
+        long totalRequests = 0;
+        long completedRequests = 0;
+        for (Map.Entry<Operation, OperationStats> entry : driver.stats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            if (stats.total() == 0) {
+                continue;
+            }
+            Histogram latency = stats.latency().copy();
+            overall = overall == null ? latency.copy() : add(overall, latency);
+            totalRequests += stats.total();
+            completedRequests += stats.completed();
+            printRow(out, entry.getKey().key(), stats.total(), stats.completed(), stats.notFound(), stats.errors(),
+                    stats.dropped(), latency, timing.arrivalWindow());
+            writeDistribution(runDir.resolve(entry.getKey().key() + ".hgrm"), latency);
+        }
+        if (overall != null) {
+            printRow(out, "all", totalRequests, completedRequests, -1, -1, driver.dropped(), overall,
+                    timing.arrivalWindow());
+            writeDistribution(runDir.resolve("all.hgrm"), overall);
+        }
+        // Offered is what the schedule asked for; achieved is what completed, drain included
+        out.printf(Locale.ROOT, "%noffered=%d offered_rate=%.1f/s completed=%d achieved_rate=%.1f/s dropped=%d%n",
+                driver.offered(), driver.offered() / seconds(timing.arrivalWindow()), completedRequests,
+                completedRequests / seconds(timing.elapsed()), driver.dropped());
+        if (driver.dropped() > 0) {
+            // The tail percentiles then show the histogram ceiling, not a measured latency
+            out.printf(Locale.ROOT, "WARNING: %d arrivals dropped by the driver and recorded at max_ms; the server "
+                    + "could not keep up with the offered rate%n", driver.dropped());
+        }
+        out.flush();
+
+        Path summaryFile = runDir.resolve("summary.txt");
+        Files.writeString(summaryFile, summary.toString(), StandardCharsets.UTF_8);
+        System.out.println(summary);
+        return summaryFile;
+    }
+
+    private static void printRow(PrintWriter out, String name, long requests, long completed, long notFound,
+            long errors, long dropped, Histogram latency, Duration window) {
+        out.printf(Locale.ROOT, "%-10s %9d %9.1f %7s %7s %7d %10.3f", name, requests,
+                completed / seconds(window), notFound < 0 ? "-" : notFound, errors < 0 ? "-" : errors, dropped,
+                latency.getMean() / 1000.0);
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %10.3f", latency.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf(Locale.ROOT, " %10.3f%n", latency.getMaxValue() / 1000.0);
+    }
+
+    private static double seconds(Duration duration) {
+        return Math.max(1, duration.toMillis()) / 1000.0;
+    }
+
+    private static Histogram add(Histogram target, Histogram source) {
+        target.add(source);
+        return target;
+    }
+
+    private static void writeDistribution(Path file, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            // Values are recorded in microseconds; scale to milliseconds
+            latency.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.prototype.ecommerce.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load-test parameters, read from system properties so they can be passed
+ * on the Maven command line, e.g. {@code -Dloadtest.rate=1000}.
+ *
+ * <ul>
+ * <li>loadtest.products - catalogue size generated before the run (default 10000)</li>
+ * <li>loadtest.concurrency - worker threads issuing requests (default 32)</li>
+ * <li>loadtest.rate - open-loop arrival rate in requests per second (default 500)</li>
+ * <li>loadtest.warmupSeconds - unrecorded warm-up phase (default 10)</li>
+ * <li>loadtest.durationSeconds - recorded phase (default 60)</li>
+ * <li>loadtest.mix - operation weights (default get=70,create=10,update=10,discount=5,delete=5)</li>
+ * <li>loadtest.seed - random seed for the request sequence (default 42)</li>
+ * <li>loadtest.reportDir - where reports are written (default target/loadtest)</li>
+ * </ul>
+ */
+public record LoadTestSettings(int products, int concurrency, double rate, Duration warmup, Duration duration,
+        Map<Operation, Integer> mix, long seed, Path reportDir) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.products", 10000),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Double.parseDouble(System.getProperty("loadtest.rate", "500")),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60)),
+                parseMix(System.getProperty("loadtest.mix", "get=70,create=10,update=10,discount=5,delete=5")),
+                Long.getLong("loadtest.seed", 42),
+                Path.of(System.getProperty("loadtest.reportDir", "target/loadtest")));
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix needs at least one positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,151 @@
+package com.prototype.ecommerce.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Open-loop load generator.
+ *
+ * Requests are scheduled at fixed intervals derived from the arrival rate,
+ * whether or not earlier requests have completed, and handed to a pool of
+ * worker threads. Latency is measured from the intended start time, so time
+ * spent queued behind a slow server counts against it instead of being
+ * hidden (no coordinated omission).
+ */
+public class OpenLoopDriver {
+
+    private final ProductApiClient client;
+    private final LoadTestSettings settings;
+    private final Operation[] weightedOperations;
+    private final AtomicLong maxProductId;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final SplittableRandom random;
+
+    /**
+     * Timing of one phase.
+     *
+     * @param arrivalWindow The time during which requests were offered.
+     * @param elapsed       The wall-clock time of the phase, including the drain of outstanding requests.
+     */
+    public record Timing(Duration arrivalWindow, Duration elapsed) {
+
+        public Duration drain() {
+            return elapsed.minus(arrivalWindow);
+        }
+    }
+
+    public OpenLoopDriver(ProductApiClient client, LoadTestSettings settings, long maxProductId) {
+        this.client = client;
+        this.settings = settings;
+        this.maxProductId = new AtomicLong(maxProductId);
+        this.random = new SplittableRandom(settings.seed());
+        this.weightedOperations = settings.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Drives load for the given duration and waits for outstanding requests.
+     *
+     * @return The arrival window and the total time of the phase.
+     */
+    public Timing run(Duration duration) throws InterruptedException {
+        // Bound the backlog so a saturated server cannot exhaust memory; excess arrivals are recorded as dropped
+        int maxQueued = Math.max(1000, settings.concurrency() * 100);
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(settings.concurrency(), settings.concurrency(), 0L,
+                TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(maxQueued), runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0;; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            long productId = 1 + random.nextLong(Math.max(1, maxProductId.get()));
+            offered.increment();
+            if (workers.getQueue().remainingCapacity() == 0) {
+                dropped.increment();
+                stats.get(operation).recordDropped();
+                continue;
+            }
+            workers.execute(() -> execute(operation, productId, intendedStart));
+        }
+        Duration arrivalWindow = Duration.ofNanos(System.nanoTime() - start);
+        shutdown(workers);
+        return new Timing(arrivalWindow, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Clears all recorded results, e.g. after the warm-up phase.
+     */
+    public void reset() {
+        stats.values().forEach(OperationStats::reset);
+        offered.reset();
+        dropped.reset();
+    }
+
+    public Map<Operation, OperationStats> stats() {
+        return stats;
+    }
+
+    /**
+     * @return The number of requests scheduled, including dropped ones.
+     */
+    public long offered() {
+        return offered.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    private void execute(Operation operation, long productId, long intendedStart) {
+        OperationStats operationStats = stats.get(operation);
+        try {
+            int status = client.execute(operation, productId, sequence.incrementAndGet());
+            operationStats.record(System.nanoTime() - intendedStart, status);
+            if (operation == Operation.CREATE && status == 201) {
+                // IDs are sequential, so newly created products join the pool of targets
+                maxProductId.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            operationStats.recordFailure(System.nanoTime() - intendedStart);
+        }
+    }
+
+    private static void shutdown(ExecutorService workers) throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(2, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.prototype.ecommerce.loadtest;
+
+/**
+ * The ProductController endpoints exercised by the load test.
+ */
+public enum Operation {
+
+    GET("get"),
+    CREATE("create"),
+    UPDATE("update"),
+    DISCOUNT("discount"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
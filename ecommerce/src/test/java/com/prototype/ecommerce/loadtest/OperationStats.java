@@ -0,0 +1,84 @@
+package com.prototype.ecommerce.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and outcome counters for one operation. Latencies are
+ * recorded in microseconds, measured from the intended start time. Arrivals
+ * dropped by the driver are recorded at the highest trackable latency, so
+ * they stay in the tail instead of vanishing from it.
+ */
+public class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(long latencyNanos, int status) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 200 && status < 300) {
+            success.increment();
+        } else if (status == 404) {
+            notFound.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        errors.increment();
+    }
+
+    void recordDropped() {
+        latency.recordValue(HIGHEST_TRACKABLE_MICROS);
+        dropped.increment();
+    }
+
+    void reset() {
+        latency.reset();
+        success.reset();
+        notFound.reset();
+        errors.reset();
+        dropped.reset();
+    }
+
+    public Histogram latency() {
+        return latency;
+    }
+
+    public long success() {
+        return success.sum();
+    }
+
+    public long notFound() {
+        return notFound.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return The number of requests that got a response or failed, excluding dropped arrivals.
+     */
+    public long completed() {
+        return success() + notFound() + errors();
+    }
+
+    public long total() {
+        return completed() + dropped();
+    }
+}
@@ -0,0 +1,62 @@
+package com.prototype.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Issues one request per call against the product REST API.
+ */
+public class ProductApiClient {
+
+    private static final String BASE_PATH = "/prototype/ecommerce/products";
+
+    private final HttpClient httpClient;
+    private final String baseUri;
+
+    public ProductApiClient(int port) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUri = "http://localhost:" + port + BASE_PATH;
+    }
+
+    /**
+     * Sends one request for the operation and waits for the response.
+     *
+     * @return The HTTP status code.
+     */
+    public int execute(Operation operation, long productId, long sequence) throws IOException, InterruptedException {
+        HttpRequest request = switch (operation) {
+            case GET -> request("/getProduct/" + productId).GET().build();
+            case CREATE -> request("/create").POST(json(productJson(sequence, 0.0))).build();
+            case UPDATE -> request("/update/" + productId).PUT(json(productJson(sequence, 0.0))).build();
+            case DISCOUNT -> request("/applyDiscountOrTax/" + productId).PUT(json(productJson(sequence, 5.0))).build();
+            case DELETE -> request("/delete/" + productId).DELETE().build();
+        };
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private static String productJson(long sequence, double discountPercentage) {
+        return String.format(Locale.ROOT,
+                "{\"productName\":\"Load Product %d\",\"productDescription\":\"Generated by the load test\","
+                        + "\"productPrice\":%.2f,\"productQuantityAvailable\":%d,\"productDiscountPercentage\":%.1f}",
+                sequence, 1.0 + (sequence % 1000), (int) (sequence % 500), discountPercentage);
+    }
+}
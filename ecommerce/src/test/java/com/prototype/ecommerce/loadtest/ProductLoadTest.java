@@ -0,0 +1,94 @@
+package com.prototype.ecommerce.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.prototype.ecommerce.entity.ProductEntity;
+import com.prototype.ecommerce.repository.ProductRepository;
+import com.prototype.ecommerce.service.CatalogueStatisticsService;
+
+/**
+ * End-to-end load test for the product REST API.
+ *
+ * Boots the full application on a random port against its own in-memory H2
+ * database, generates the catalogue and drives an open-loop mixed workload
+ * over HTTP. Excluded from the normal build; run with
+ * {@code mvn -Ploadtest test}, see {@link LoadTestSettings} for the knobs.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.prototype.ecommerce=WARN",
+        "server.tomcat.threads.max=200" })
+public class ProductLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogueStatisticsService catalogueStatisticsService;
+
+    @Test
+    void testMixedWorkload() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        long maxProductId = seedCatalogue(settings.products());
+
+        OpenLoopDriver driver = new OpenLoopDriver(new ProductApiClient(port), settings, maxProductId);
+        if (!settings.warmup().isZero()) {
+            driver.run(settings.warmup());
+            driver.reset();
+        }
+        OpenLoopDriver.Timing timing = driver.run(settings.duration());
+        Path report = LoadTestReport.write(settings, driver, timing);
+
+        assertTrue(Files.exists(report));
+        long requests = driver.stats().values().stream().mapToLong(OperationStats::completed).sum();
+        assertTrue(requests > 0, "No requests completed");
+    }
+
+    /**
+     * Inserts the catalogue straight through the repository, which is much
+     * faster than going through the API, then rebuilds the statistics that
+     * the inserts bypassed.
+     *
+     * @return The highest product ID.
+     */
+    private long seedCatalogue(int products) {
+        long maxProductId = 0;
+        List<ProductEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 1; i <= products; i++) {
+            ProductEntity productEntity = new ProductEntity();
+            productEntity.setProductName("Product " + i);
+            productEntity.setProductDescription("Generated catalogue product " + i);
+            productEntity.setProductPrice(1.0 + (i % 1000));
+            productEntity.setProductQuantityAvailable(i % 500);
+            productEntity.setProductDiscountPercentage(0.0);
+            productEntity.setProductTaxRate(0.0);
+            batch.add(productEntity);
+            if (batch.size() == SEED_BATCH_SIZE || i == products) {
+                for (ProductEntity saved : productRepository.saveAll(batch)) {
+                    maxProductId = Math.max(maxProductId, saved.getProductId());
+                }
+                batch.clear();
+            }
+        }
+        catalogueStatisticsService.reconcile();
+        return maxProductId;
+    }
+}
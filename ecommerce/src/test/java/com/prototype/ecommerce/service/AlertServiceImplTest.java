@@ -0,0 +1,168 @@
+package com.prototype.ecommerce.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.prototype.ecommerce.dto.Alert;
+import com.prototype.ecommerce.dto.AlertRule;
+import com.prototype.ecommerce.dto.ProductSnapshot;
+import com.prototype.ecommerce.event.ProductChangeEvent;
+
+public class AlertServiceImplTest {
+
+    private AlertServiceImpl alertService;
+    private BlockingSink alertSink;
+
+    @AfterEach
+    void tearDown() {
+        alertSink.release.countDown();
+        alertService.stop();
+    }
+
+    @Test
+    void testEvaluate_LowStockAndPriceDropAlerts() throws InterruptedException {
+        start(10, 10);
+        alertSink.release.countDown();
+        alertService.registerRule(rule(AlertRule.Type.LOW_STOCK, 50.0));
+        alertService.registerRule(rule(AlertRule.Type.PRICE_DROP, 20.0));
+
+        alertService.evaluate(new ProductChangeEvent(snapshot(1L, 100.0, 60, 0.0), snapshot(1L, 70.0, 20, 0.0)));
+        // Neither threshold crossed
+        alertService.evaluate(new ProductChangeEvent(snapshot(2L, 100.0, 20, 0.0), snapshot(2L, 90.0, 30, 0.0)));
+
+        alertSink.awaitAlerts(2);
+        List<Alert> recentAlerts = alertService.getRecentAlerts();
+        assertEquals(2, recentAlerts.size());
+        assertTrue(recentAlerts.stream().allMatch(alert -> alert.productId() == 1L));
+        assertTrue(recentAlerts.stream().anyMatch(alert -> alert.type() == AlertRule.Type.LOW_STOCK && alert.currentValue() == 20.0));
+        assertTrue(recentAlerts.stream().anyMatch(alert -> alert.type() == AlertRule.Type.PRICE_DROP && alert.currentValue() == 70.0));
+    }
+
+    @Test
+    void testDispatch_DrainsQueuedAlertsInBatches() throws InterruptedException {
+        start(10, 3);
+        alertService.registerRule(rule(AlertRule.Type.LOW_STOCK, 50.0));
+
+        lowStock(1L);
+        // The dispatcher is now stuck in the sink, so the next alerts queue up behind it
+        assertTrue(alertSink.delivering.await(1, TimeUnit.SECONDS));
+        for (long productId = 2; productId <= 8; productId++) {
+            lowStock(productId);
+        }
+        alertSink.release.countDown();
+
+        alertSink.awaitAlerts(8);
+        assertEquals(List.of(1, 3, 3, 1), alertSink.batches.stream().map(List::size).toList());
+        assertEquals(8L, alertService.getRecentAlerts().get(0).productId());
+        assertEquals(0, alertService.getDroppedAlertCount());
+    }
+
+    @Test
+    void testEnqueue_DropsAlertWhenQueueStaysFull() throws InterruptedException {
+        start(2, 10);
+        alertService.registerRule(rule(AlertRule.Type.LOW_STOCK, 50.0));
+
+        lowStock(1L);
+        assertTrue(alertSink.delivering.await(1, TimeUnit.SECONDS));
+        lowStock(2L);
+        lowStock(3L);
+
+        long startNanos = System.nanoTime();
+        lowStock(4L);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        assertEquals(1, alertService.getDroppedAlertCount());
+        assertTrue(waitedMillis >= 20, "Writer should wait for the offer timeout before dropping");
+        assertTrue(waitedMillis < 1000, "Writer should not block on a full queue");
+
+        alertSink.release.countDown();
+        alertSink.awaitAlerts(3);
+        assertEquals(List.of(3L, 2L, 1L), alertService.getRecentAlerts().stream().map(Alert::productId).toList());
+    }
+
+    @Test
+    void testEvaluate_WaitsOneOfferTimeoutPerWriteWhateverTheRuleCount() throws InterruptedException {
+        start(1, 10);
+        for (int i = 0; i < 20; i++) {
+            alertService.registerRule(rule(AlertRule.Type.LOW_STOCK, 50.0));
+        }
+        alertService.registerRule(rule(AlertRule.Type.LOW_STOCK, 3.0));
+
+        // Fills the queue behind the stuck dispatcher: 5 -> 1 only crosses the threshold of 3
+        alertService.evaluate(new ProductChangeEvent(snapshot(1L, 10.0, 5, 0.0), snapshot(1L, 10.0, 1, 0.0)));
+        assertTrue(alertSink.delivering.await(1, TimeUnit.SECONDS));
+        alertService.evaluate(new ProductChangeEvent(snapshot(2L, 10.0, 5, 0.0), snapshot(2L, 10.0, 1, 0.0)));
+
+        long startNanos = System.nanoTime();
+        lowStock(3L);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        assertEquals(20, alertService.getDroppedAlertCount());
+        assertTrue(waitedMillis >= 20, "Writer should wait for the offer timeout before dropping");
+        assertTrue(waitedMillis < 200, "Writer waited " + waitedMillis + "ms, more than one offer timeout");
+    }
+
+    private void start(int queueCapacity, int batchSize) {
+        alertSink = new BlockingSink();
+        alertService = new AlertServiceImpl();
+        ReflectionTestUtils.setField(alertService, "alertSinks", List.of(alertSink));
+        ReflectionTestUtils.setField(alertService, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(alertService, "batchSize", batchSize);
+        ReflectionTestUtils.setField(alertService, "offerTimeoutMillis", 20L);
+        ReflectionTestUtils.setField(alertService, "recentSize", 100);
+        alertService.start();
+    }
+
+    private void lowStock(Long productId) {
+        alertService.evaluate(new ProductChangeEvent(snapshot(productId, 10.0, 60, 0.0), snapshot(productId, 10.0, 20, 0.0)));
+    }
+
+    private static AlertRule rule(AlertRule.Type type, Double threshold) {
+        AlertRule alertRule = new AlertRule();
+        alertRule.setType(type);
+        alertRule.setThreshold(threshold);
+        return alertRule;
+    }
+
+    private static ProductSnapshot snapshot(Long productId, double productPrice, int productQuantityAvailable, double productDiscountPercentage) {
+        return new ProductSnapshot(productId, productPrice, productQuantityAvailable, productDiscountPercentage);
+    }
+
+    /**
+     * Records each batch and holds the dispatcher in its first delivery until
+     * released.
+     */
+    private static class BlockingSink implements AlertSink {
+
+        private final List<List<Alert>> batches = new CopyOnWriteArrayList<>();
+        private final CountDownLatch delivering = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void deliver(List<Alert> alerts) {
+            delivering.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(alerts);
+        }
+
+        private void awaitAlerts(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (batches.stream().mapToInt(List::size).sum() < count) {
+                assertTrue(System.nanoTime() < deadline, "Alerts not delivered in time");
+                Thread.sleep(10);
+            }
+        }
+    }
+}
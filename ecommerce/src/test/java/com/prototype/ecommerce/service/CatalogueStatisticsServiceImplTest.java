@@ -0,0 +1,173 @@
+package com.prototype.ecommerce.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.prototype.ecommerce.dto.CatalogueStatistics;
+import com.prototype.ecommerce.dto.ProductSnapshot;
+import com.prototype.ecommerce.event.ProductChangeEvent;
+import com.prototype.ecommerce.repository.ProductRepository;
+
+public class CatalogueStatisticsServiceImplTest {
+
+    private CatalogueStatisticsServiceImpl statisticsService;
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        statisticsService = new CatalogueStatisticsServiceImpl();
+        ReflectionTestUtils.setField(statisticsService, "productRepository", productRepository);
+        ReflectionTestUtils.setField(statisticsService, "priceBandBounds", new double[] { 100.0, 10.0 });
+        ReflectionTestUtils.setField(statisticsService, "reconcilePageSize", 2);
+        ReflectionTestUtils.setField(statisticsService, "parallelThreshold", 1);
+        statisticsService.init();
+    }
+
+    @Test
+    void testApplyChange_CreateUpdateDelete() {
+        ProductSnapshot created = snapshot(1L, 20.0, 10, 0.0);
+        ProductSnapshot updated = snapshot(1L, 5.0, 4, 50.0);
+
+        statisticsService.applyChange(new ProductChangeEvent(null, created));
+        CatalogueStatistics statistics = statisticsService.getStatistics();
+        assertEquals(1, statistics.productCount());
+        assertEquals(10, statistics.totalStock());
+        assertEquals(200.0, statistics.totalInventoryValue(), 0.0001);
+        assertEquals(10, statistics.stockByPriceBand().get(1).stock());
+
+        statisticsService.applyChange(new ProductChangeEvent(created, updated));
+        statistics = statisticsService.getStatistics();
+        assertEquals(1, statistics.productCount());
+        assertEquals(20.0, statistics.totalInventoryValue(), 0.0001);
+        assertEquals(50.0, statistics.averageDiscountPercentage(), 0.0001);
+        assertEquals(0, statistics.stockByPriceBand().get(1).stock());
+        assertEquals(4, statistics.stockByPriceBand().get(0).stock());
+
+        statisticsService.applyChange(new ProductChangeEvent(updated, null));
+        statistics = statisticsService.getStatistics();
+        assertEquals(0, statistics.productCount());
+        assertEquals(0, statistics.totalStock());
+    }
+
+    @Test
+    void testGetStatistics_PriceBandBounds() {
+        statisticsService.applyChange(new ProductChangeEvent(null, snapshot(1L, 100.0, 3, 0.0)));
+
+        List<CatalogueStatistics.PriceBand> bands = statisticsService.getStatistics().stockByPriceBand();
+        assertEquals(3, bands.size());
+        assertEquals(100.0, bands.get(2).minPrice());
+        assertNull(bands.get(2).maxPrice());
+        assertEquals(3, bands.get(2).stock());
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        // Drift: an event the table never saw
+        statisticsService.applyChange(new ProductChangeEvent(null, snapshot(9L, 1000.0, 1000, 0.0)));
+
+        when(productRepository.findSnapshotsAfter(eq(0L), any())).thenReturn(List.of(
+                snapshot(1L, 20.0, 10, 10.0), snapshot(2L, 5.0, 2, 0.0)));
+        when(productRepository.findSnapshotsAfter(eq(2L), any())).thenReturn(List.of(
+                snapshot(3L, 200.0, 1, 20.0)));
+
+        statisticsService.reconcile();
+
+        CatalogueStatistics statistics = statisticsService.getStatistics();
+        assertEquals(3, statistics.productCount());
+        assertEquals(13, statistics.totalStock());
+        assertEquals(410.0, statistics.totalInventoryValue(), 0.0001);
+        assertEquals(10.0, statistics.averageDiscountPercentage(), 0.0001);
+        assertNotNull(statistics.lastReconciledAt());
+    }
+
+    @Test
+    void testReconcile_KeepsWritesRacingWithPageReads() {
+        ProductSnapshot first = snapshot(1L, 20.0, 10, 0.0);
+        ProductSnapshot second = snapshot(2L, 5.0, 2, 0.0);
+        ProductSnapshot secondUpdated = snapshot(2L, 5.0, 7, 0.0);
+        ProductSnapshot third = snapshot(3L, 200.0, 1, 0.0);
+        ProductSnapshot thirdUpdated = snapshot(3L, 200.0, 4, 0.0);
+        ProductSnapshot fourth = snapshot(4L, 1.0, 3, 0.0);
+        statisticsService.applyChange(new ProductChangeEvent(null, first));
+        statisticsService.applyChange(new ProductChangeEvent(null, second));
+        statisticsService.applyChange(new ProductChangeEvent(null, third));
+
+        when(productRepository.findSnapshotsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            // Commits after the read: the page holds the old row 2
+            statisticsService.applyChange(new ProductChangeEvent(second, secondUpdated));
+            // Commits before the next page is read, which then sees it
+            statisticsService.applyChange(new ProductChangeEvent(third, thirdUpdated));
+            return List.of(first, second);
+        });
+        when(productRepository.findSnapshotsAfter(eq(2L), any())).thenAnswer(invocation -> {
+            // Commits before the read: the page already holds it
+            statisticsService.applyChange(new ProductChangeEvent(null, fourth));
+            return List.of(thirdUpdated, fourth);
+        });
+        when(productRepository.findSnapshotsAfter(eq(4L), any())).thenReturn(Collections.emptyList());
+
+        statisticsService.reconcile();
+
+        CatalogueStatistics statistics = statisticsService.getStatistics();
+        assertEquals(4, statistics.productCount());
+        assertEquals(24, statistics.totalStock());
+        assertEquals(1038.0, statistics.totalInventoryValue(), 0.0001);
+    }
+
+    @Test
+    void testReconcile_CountsWriteCommittedBeforePageReadOnce() throws Exception {
+        ProductSnapshot first = snapshot(1L, 20.0, 10, 0.0);
+        ProductSnapshot second = snapshot(2L, 5.0, 2, 0.0);
+        statisticsService.applyChange(new ProductChangeEvent(null, first));
+
+        CountDownLatch committed = new CountDownLatch(1);
+        Thread writer = new Thread(() -> statisticsService.guardWrite(() -> {
+            // The row is committed, but its change is published only after the page read
+            committed.countDown();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            statisticsService.applyChange(new ProductChangeEvent(null, second));
+            return null;
+        }));
+        when(productRepository.findSnapshotsAfter(eq(0L), any())).thenAnswer(invocation -> {
+            writer.start();
+            assertTrue(committed.await(1, TimeUnit.SECONDS));
+            return List.of(first, second);
+        });
+        when(productRepository.findSnapshotsAfter(eq(2L), any())).thenReturn(Collections.emptyList());
+
+        statisticsService.reconcile();
+        writer.join(1000);
+
+        CatalogueStatistics statistics = statisticsService.getStatistics();
+        assertEquals(2, statistics.productCount());
+        assertEquals(12, statistics.totalStock());
+    }
+
+    @Test
+    void testReconcile_EmptyCatalogue() {
+        when(productRepository.findSnapshotsAfter(anyLong(), any())).thenReturn(Collections.emptyList());
+
+        statisticsService.reconcile();
+
+        assertEquals(0, statisticsService.getStatistics().productCount());
+    }
+
+    private static ProductSnapshot snapshot(Long productId, double productPrice, int productQuantityAvailable, double productDiscountPercentage) {
+        return new ProductSnapshot(productId, productPrice, productQuantityAvailable, productDiscountPercentage);
+    }
+}
@@ -0,0 +1,247 @@
+package com.prototype.ecommerce.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.prototype.ecommerce.dto.FlashSale;
+import com.prototype.ecommerce.entity.FlashSaleEntity;
+import com.prototype.ecommerce.entity.FlashSalePrice;
+import com.prototype.ecommerce.entity.ProductEntity;
+import com.prototype.ecommerce.exception.ProductServiceException;
+import com.prototype.ecommerce.repository.FlashSaleRepository;
+import com.prototype.ecommerce.repository.ProductRepository;
+
+public class FlashSaleServiceImplTest {
+
+    private FlashSaleServiceImpl flashSaleService;
+    private ProductRepository productRepository;
+    private FlashSaleRepository flashSaleRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        when(productRepository.findAllById(any())).thenReturn(List.of(product(1L, 100.0), product(2L, 50.0)));
+        flashSaleRepository = mock(FlashSaleRepository.class);
+        flashSaleService = startService(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flashSaleService.stop();
+    }
+
+    private FlashSaleServiceImpl startService(int retainedFinishedSales) {
+        FlashSaleServiceImpl service = new FlashSaleServiceImpl();
+        ReflectionTestUtils.setField(service, "productRepository", productRepository);
+        ReflectionTestUtils.setField(service, "flashSaleRepository", flashSaleRepository);
+        ReflectionTestUtils.setField(service, "tickMillis", 10L);
+        ReflectionTestUtils.setField(service, "wheelSize", 64);
+        ReflectionTestUtils.setField(service, "prewarmSeconds", 1L);
+        ReflectionTestUtils.setField(service, "retainedFinishedSales", retainedFinishedSales);
+        service.start();
+        return service;
+    }
+
+    @Test
+    void testScheduleFlashSale_RejectsInvalidSale() {
+        Instant now = Instant.now();
+
+        assertThrows(ProductServiceException.class,
+                () -> flashSaleService.scheduleFlashSale(flashSale(Set.of(), 10.0, now.plusSeconds(5), now.plusSeconds(10))));
+        assertThrows(ProductServiceException.class,
+                () -> flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 100.0, now.plusSeconds(5), now.plusSeconds(10))));
+        assertThrows(ProductServiceException.class,
+                () -> flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 10.0, now.plusSeconds(10), now.plusSeconds(5))));
+        assertThrows(ProductServiceException.class,
+                () -> flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 10.0, now.minusSeconds(10), now.minusSeconds(5))));
+    }
+
+    @Test
+    void testScheduleFlashSale_RejectsOverlapIncludingPrewarmWindow() {
+        Instant now = Instant.now();
+        flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 10.0, now.plusSeconds(10), now.plusSeconds(20)));
+
+        // Starts after the first sale ends, but would read its prices while the first sale is active
+        assertThrows(ProductServiceException.class,
+                () -> flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 10.0, now.plusMillis(20_500), now.plusSeconds(30))));
+
+        assertNotNull(flashSaleService.scheduleFlashSale(flashSale(Set.of(2L), 10.0, now.plusMillis(20_500), now.plusSeconds(30))));
+        assertNotNull(flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 10.0, now.plusSeconds(21), now.plusSeconds(30))));
+    }
+
+    @Test
+    void testFlashSale_ActivatesAndEndsInMemoryOnly() {
+        Instant now = Instant.now();
+        FlashSale flashSale = flashSaleService.scheduleFlashSale(
+                flashSale(Set.of(1L, 2L), 10.0, now.plusMillis(100), now.plusMillis(600)));
+
+        awaitUntil(() -> flashSale.getStatus() == FlashSale.Status.ACTIVE);
+        assertEquals(Optional.of(90.0), flashSaleService.getEffectivePrice(1L, 100.0));
+        assertEquals(Optional.of(45.0), flashSaleService.getEffectivePrice(2L, 50.0));
+        assertEquals(Optional.empty(), flashSaleService.getEffectivePrice(3L, 10.0));
+
+        awaitUntil(() -> flashSale.getStatus() == FlashSale.Status.ENDED);
+        assertEquals(Optional.empty(), flashSaleService.getEffectivePrice(1L, 100.0));
+        assertEquals(Optional.empty(), flashSaleService.getEffectivePrice(2L, 50.0));
+
+        verify(productRepository, never()).save(any());
+        verify(productRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testGetEffectivePrice_IgnoresSalePriceOncePriceIsEdited() {
+        Instant now = Instant.now();
+        FlashSale flashSale = flashSaleService.scheduleFlashSale(
+                flashSale(Set.of(1L), 10.0, now.plusMillis(50), now.plusSeconds(10)));
+
+        awaitUntil(() -> flashSale.getStatus() == FlashSale.Status.ACTIVE);
+        assertEquals(Optional.of(90.0), flashSaleService.getEffectivePrice(1L, 100.0));
+        assertEquals(Optional.empty(), flashSaleService.getEffectivePrice(1L, 120.0));
+    }
+
+    @Test
+    void testCancelFlashSale_ActiveSaleRestoresStoredPrice() {
+        Instant now = Instant.now();
+        FlashSale flashSale = flashSaleService.scheduleFlashSale(
+                flashSale(Set.of(1L), 10.0, now.plusMillis(50), now.plusSeconds(10)));
+        awaitUntil(() -> flashSale.getStatus() == FlashSale.Status.ACTIVE);
+
+        assertTrue(flashSaleService.cancelFlashSale(flashSale.getSaleId()));
+
+        assertEquals(FlashSale.Status.CANCELLED, flashSale.getStatus());
+        assertEquals(Optional.empty(), flashSaleService.getEffectivePrice(1L, 100.0));
+        assertFalse(flashSaleService.cancelFlashSale(flashSale.getSaleId()));
+    }
+
+    @Test
+    void testCancelFlashSale_ScheduledSaleNeverActivates() throws InterruptedException {
+        Instant now = Instant.now();
+        FlashSale flashSale = flashSaleService.scheduleFlashSale(
+                flashSale(Set.of(1L), 10.0, now.plusMillis(200), now.plusSeconds(10)));
+
+        assertTrue(flashSaleService.cancelFlashSale(flashSale.getSaleId()));
+        Thread.sleep(400);
+
+        assertEquals(FlashSale.Status.CANCELLED, flashSale.getStatus());
+        assertEquals(Optional.empty(), flashSaleService.getEffectivePrice(1L, 100.0));
+    }
+
+    @Test
+    void testFlashSale_StateIsStoredInTheBackground() {
+        Instant now = Instant.now();
+        FlashSale flashSale = flashSaleService.scheduleFlashSale(
+                flashSale(Set.of(1L), 10.0, now.plusMillis(100), now.plusSeconds(10)));
+
+        verify(flashSaleRepository, timeout(1000).atLeastOnce()).save(ArgumentMatchers.<FlashSaleEntity>argThat(entity -> entity.getSaleId().equals(flashSale.getSaleId())
+                && entity.getProductIds().equals(Set.of(1L)) && entity.getEndTime().equals(flashSale.getEndTime())));
+
+        awaitUntil(() -> flashSale.getStatus() == FlashSale.Status.ACTIVE);
+        verify(flashSaleRepository, timeout(1000).atLeastOnce()).save(ArgumentMatchers.<FlashSaleEntity>argThat(entity -> entity.getStatus() == FlashSale.Status.ACTIVE
+                && entity.getPrices().get(1L).getSalePrice() == 90.0 && entity.getPrices().get(1L).getOriginalPrice() == 100.0));
+
+        flashSaleService.cancelFlashSale(flashSale.getSaleId());
+        verify(flashSaleRepository, timeout(1000).atLeastOnce()).save(ArgumentMatchers.<FlashSaleEntity>argThat(entity -> entity.getStatus() == FlashSale.Status.CANCELLED));
+    }
+
+    @Test
+    void testStart_RestoresStoredSales() {
+        Instant now = Instant.now();
+        FlashSaleEntity active = storedSale(5L, FlashSale.Status.ACTIVE, 1L, now.minusSeconds(5), now.plusSeconds(10));
+        active.getPrices().put(1L, new FlashSalePrice(100.0, 90.0));
+        FlashSaleEntity scheduled = storedSale(6L, FlashSale.Status.SCHEDULED, 2L, now.plusMillis(200), now.plusSeconds(10));
+        FlashSaleEntity expired = storedSale(7L, FlashSale.Status.ACTIVE, 3L, now.minusSeconds(20), now.minusSeconds(10));
+        when(flashSaleRepository.findByStatusIn(any())).thenReturn(List.of(active, scheduled, expired));
+        when(flashSaleRepository.findMaxSaleId()).thenReturn(7L);
+        flashSaleService.stop();
+
+        flashSaleService = startService(100);
+
+        // The active sale is switched back in before the first read
+        assertEquals(Optional.of(90.0), flashSaleService.getEffectivePrice(1L, 100.0));
+        assertEquals(FlashSale.Status.ACTIVE, flashSaleService.getFlashSaleById(5L).get().getStatus());
+        assertEquals(FlashSale.Status.ENDED, flashSaleService.getFlashSaleById(7L).get().getStatus());
+
+        FlashSale rearmed = flashSaleService.getFlashSaleById(6L).get();
+        awaitUntil(() -> rearmed.getStatus() == FlashSale.Status.ACTIVE);
+        assertEquals(Optional.of(45.0), flashSaleService.getEffectivePrice(2L, 50.0));
+
+        FlashSale next = flashSaleService.scheduleFlashSale(flashSale(Set.of(4L), 10.0, now.plusSeconds(20), now.plusSeconds(30)));
+        assertEquals(8L, next.getSaleId());
+    }
+
+    @Test
+    void testGetFlashSales_KeepsOnlyRecentFinishedSales() {
+        flashSaleService.stop();
+        flashSaleService = startService(1);
+        Instant now = Instant.now();
+        FlashSale first = flashSaleService.scheduleFlashSale(flashSale(Set.of(1L), 10.0, now.plusSeconds(10), now.plusSeconds(20)));
+        FlashSale second = flashSaleService.scheduleFlashSale(flashSale(Set.of(2L), 10.0, now.plusSeconds(10), now.plusSeconds(20)));
+        FlashSale pending = flashSaleService.scheduleFlashSale(flashSale(Set.of(3L), 10.0, now.plusSeconds(10), now.plusSeconds(20)));
+
+        flashSaleService.cancelFlashSale(first.getSaleId());
+        flashSaleService.cancelFlashSale(second.getSaleId());
+
+        assertTrue(flashSaleService.getFlashSaleById(first.getSaleId()).isEmpty());
+        assertEquals(Set.of(second.getSaleId(), pending.getSaleId()),
+                new HashSet<>(flashSaleService.getFlashSales().stream().map(FlashSale::getSaleId).toList()));
+    }
+
+    private static FlashSaleEntity storedSale(Long saleId, FlashSale.Status status, Long productId, Instant startTime, Instant endTime) {
+        FlashSaleEntity entity = new FlashSaleEntity();
+        entity.setSaleId(saleId);
+        entity.setStatus(status);
+        entity.setDiscountPercentage(10.0);
+        entity.setStartTime(startTime);
+        entity.setEndTime(endTime);
+        entity.setProductIds(new HashSet<>(Set.of(productId)));
+        Map<Long, FlashSalePrice> prices = new HashMap<>();
+        entity.setPrices(prices);
+        return entity;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (!condition.getAsBoolean()) {
+            assertTrue(Instant.now().isBefore(deadline), "Condition not met in time");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    private static FlashSale flashSale(Set<Long> productIds, Double discountPercentage, Instant startTime, Instant endTime) {
+        FlashSale flashSale = new FlashSale();
+        flashSale.setProductIds(productIds);
+        flashSale.setDiscountPercentage(discountPercentage);
+        flashSale.setStartTime(startTime);
+        flashSale.setEndTime(endTime);
+        return flashSale;
+    }
+
+    private static ProductEntity product(Long productId, Double price) {
+        ProductEntity product = new ProductEntity();
+        product.setProductId(productId);
+        product.setProductPrice(price);
+        return product;
+    }
+}
@@ -0,0 +1,116 @@
+package com.prototype.ecommerce.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.prototype.ecommerce.dto.HotProduct;
+import com.prototype.ecommerce.dto.ProductResponse;
+
+public class HotProductServiceImplTest {
+
+    private HotProductServiceImpl hotProductService;
+
+    @BeforeEach
+    void setUp() {
+        hotProductService = new HotProductServiceImpl();
+        ReflectionTestUtils.setField(hotProductService, "capacity", 2);
+        ReflectionTestUtils.setField(hotProductService, "threshold", 10L);
+        ReflectionTestUtils.setField(hotProductService, "sketchDepth", 4);
+        ReflectionTestUtils.setField(hotProductService, "sketchWidth", 4096);
+        hotProductService.init();
+    }
+
+    @Test
+    void testRecordAccess_AdmitsAtThreshold() {
+        assertFalse(read(1L, 9));
+        assertTrue(hotProductService.recordAccess(1L));
+
+        List<HotProduct> hotProducts = hotProductService.getHotProducts();
+        assertEquals(1, hotProducts.size());
+        assertEquals(1L, hotProducts.get(0).productId());
+        assertEquals(10, hotProducts.get(0).estimatedHits());
+    }
+
+    @Test
+    void testRecordAccess_EvictsColdestWhenFull() {
+        read(1L, 30);
+        read(2L, 10);
+        hotProductService.pinProduct(product(2L, 10.0), hotProductService.getWriteVersion());
+
+        // Not hotter than the coldest entry yet
+        assertFalse(read(3L, 10));
+        assertTrue(hotProductService.recordAccess(3L));
+
+        assertEquals(List.of(1L, 3L), hotProductIds());
+        assertTrue(hotProductService.getPinnedProduct(2L).isEmpty());
+    }
+
+    @Test
+    void testDecay_DropsCooledProductsAndTheirPins() {
+        read(1L, 40);
+        read(2L, 12);
+        hotProductService.pinProduct(product(2L, 10.0), hotProductService.getWriteVersion());
+
+        hotProductService.decay();
+
+        assertEquals(List.of(1L), hotProductIds());
+        assertEquals(20, hotProductService.getHotProducts().get(0).estimatedHits());
+        assertTrue(hotProductService.getPinnedProduct(2L).isEmpty());
+    }
+
+    @Test
+    void testPinProduct_OnlyHotProductsArePinned() {
+        read(1L, 5);
+
+        hotProductService.pinProduct(product(1L, 10.0), hotProductService.getWriteVersion());
+
+        assertTrue(hotProductService.getPinnedProduct(1L).isEmpty());
+    }
+
+    @Test
+    void testPinProduct_StaleVersionIsRejected() {
+        read(1L, 10);
+        long versionBeforeRead = hotProductService.getWriteVersion();
+
+        // A write lands between the read and the pin
+        hotProductService.evictProduct(1L);
+        hotProductService.pinProduct(product(1L, 10.0), versionBeforeRead);
+        assertTrue(hotProductService.getPinnedProduct(1L).isEmpty());
+
+        hotProductService.pinProduct(product(1L, 12.0), hotProductService.getWriteVersion());
+        assertEquals(12.0, hotProductService.getPinnedProduct(1L).get().productPrice());
+    }
+
+    @Test
+    void testEvictProduct_RemovesPin() {
+        read(1L, 10);
+        hotProductService.pinProduct(product(1L, 10.0), hotProductService.getWriteVersion());
+        assertTrue(hotProductService.getPinnedProduct(1L).isPresent());
+
+        hotProductService.evictProduct(1L);
+
+        assertTrue(hotProductService.getPinnedProduct(1L).isEmpty());
+        assertEquals(1L, hotProductService.getHotProducts().get(0).productId());
+    }
+
+    private boolean read(Long productId, int times) {
+        boolean hot = false;
+        for (int i = 0; i < times; i++) {
+            hot = hotProductService.recordAccess(productId);
+        }
+        return hot;
+    }
+
+    private List<Long> hotProductIds() {
+        return hotProductService.getHotProducts().stream().map(HotProduct::productId).toList();
+    }
+
+    private static ProductResponse product(Long productId, Double price) {
+        return new ProductResponse(productId, "Test Product", "Test Description", price, 10);
+    }
+}
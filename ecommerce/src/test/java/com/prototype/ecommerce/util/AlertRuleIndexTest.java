@@ -0,0 +1,112 @@
+package com.prototype.ecommerce.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.prototype.ecommerce.dto.AlertRule;
+
+public class AlertRuleIndexTest {
+
+    private AlertRuleIndex ruleIndex;
+
+    @BeforeEach
+    void setUp() {
+        ruleIndex = new AlertRuleIndex();
+    }
+
+    @Test
+    void testMatchLowStock_OnlyCrossedThresholds() {
+        AlertRule below10 = rule(null, AlertRule.Type.LOW_STOCK, 10.0);
+        AlertRule below50 = rule(null, AlertRule.Type.LOW_STOCK, 50.0);
+        AlertRule below100 = rule(null, AlertRule.Type.LOW_STOCK, 100.0);
+        ruleIndex.add(below10);
+        ruleIndex.add(below50);
+        ruleIndex.add(below100);
+
+        List<AlertRule> matches = ruleIndex.matchLowStock(1L, 60, 20);
+
+        assertEquals(List.of(below50), matches);
+    }
+
+    @Test
+    void testMatchLowStock_NoMatchWhenStockRises() {
+        ruleIndex.add(rule(null, AlertRule.Type.LOW_STOCK, 50.0));
+
+        assertTrue(ruleIndex.matchLowStock(1L, 20, 30).isEmpty());
+    }
+
+    @Test
+    void testMatchLowStock_CreatedBelowThreshold() {
+        AlertRule below50 = rule(null, AlertRule.Type.LOW_STOCK, 50.0);
+        ruleIndex.add(below50);
+
+        assertEquals(List.of(below50), ruleIndex.matchLowStock(1L, null, 5));
+    }
+
+    @Test
+    void testMatchPriceDrop_ProductAndGlobalRules() {
+        AlertRule globalDrop = rule(null, AlertRule.Type.PRICE_DROP, 20.0);
+        AlertRule productDrop = rule(1L, AlertRule.Type.PRICE_DROP, 10.0);
+        AlertRule otherProductDrop = rule(2L, AlertRule.Type.PRICE_DROP, 10.0);
+        ruleIndex.add(globalDrop);
+        ruleIndex.add(productDrop);
+        ruleIndex.add(otherProductDrop);
+
+        assertEquals(List.of(productDrop), ruleIndex.matchPriceDrop(1L, 15.0));
+        assertEquals(2, ruleIndex.matchPriceDrop(1L, 25.0).size());
+        assertTrue(ruleIndex.matchPriceDrop(1L, 0.0).isEmpty());
+    }
+
+    @Test
+    void testRemove_RuleNoLongerMatches() {
+        AlertRule below50 = rule(null, AlertRule.Type.LOW_STOCK, 50.0);
+        ruleIndex.add(below50);
+        ruleIndex.remove(below50);
+
+        assertTrue(ruleIndex.matchLowStock(1L, 60, 20).isEmpty());
+        assertTrue(ruleIndex.getRules().isEmpty());
+    }
+
+    @Test
+    void testAdd_NotLostWhenConcurrentRemoveEmptiesThreshold() throws Exception {
+        AlertRule churn = rule(null, AlertRule.Type.LOW_STOCK, 50.0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread remover = new Thread(() -> {
+            while (running.get()) {
+                ruleIndex.add(churn);
+                ruleIndex.remove(churn);
+            }
+        });
+        remover.start();
+
+        int lost = 0;
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                AlertRule below50 = rule(null, AlertRule.Type.LOW_STOCK, 50.0);
+                ruleIndex.add(below50);
+                if (!ruleIndex.matchLowStock(1L, 60, 20).contains(below50)) {
+                    lost++;
+                }
+                ruleIndex.remove(below50);
+            }
+        } finally {
+            running.set(false);
+            remover.join();
+        }
+
+        assertEquals(0, lost);
+    }
+
+    private static AlertRule rule(Long productId, AlertRule.Type type, Double threshold) {
+        AlertRule alertRule = new AlertRule();
+        alertRule.setProductId(productId);
+        alertRule.setType(type);
+        alertRule.setThreshold(threshold);
+        return alertRule;
+    }
+}
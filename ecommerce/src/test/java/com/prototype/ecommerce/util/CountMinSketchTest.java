@@ -0,0 +1,65 @@
+package com.prototype.ecommerce.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class CountMinSketchTest {
+
+    @Test
+    void testIncrement_NeverUndercounts() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (long key = 0; key < 1000; key++) {
+            for (int i = 0; i <= key % 5; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        for (long key = 0; key < 1000; key++) {
+            assertTrue(sketch.estimate(key) >= key % 5 + 1);
+        }
+    }
+
+    @Test
+    void testEstimate_ExactForFewKeysInWideSketch() {
+        CountMinSketch sketch = new CountMinSketch(4, 4096);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(42L);
+        }
+        sketch.increment(7L);
+
+        assertEquals(100, sketch.estimate(42L));
+        assertEquals(1, sketch.estimate(7L));
+        assertEquals(0, sketch.estimate(1234L));
+    }
+
+    @Test
+    void testIncrement_ReturnsEstimateIncludingThisOccurrence() {
+        CountMinSketch sketch = new CountMinSketch(2, 1024);
+
+        assertEquals(1, sketch.increment(5L));
+        assertEquals(2, sketch.increment(5L));
+        assertEquals(2, sketch.estimate(5L));
+    }
+
+    @Test
+    void testDecay_HalvesCounts() {
+        CountMinSketch sketch = new CountMinSketch(4, 4096);
+        for (int i = 0; i < 101; i++) {
+            sketch.increment(42L);
+        }
+        sketch.increment(7L);
+
+        sketch.decay();
+
+        assertEquals(50, sketch.estimate(42L));
+        assertEquals(0, sketch.estimate(7L));
+    }
+
+    @Test
+    void testConstructor_RejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(0, 64));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(9, 64));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 0));
+    }
+}
@@ -0,0 +1,75 @@
+package com.prototype.ecommerce.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    private TimerWheel timerWheel;
+
+    @BeforeEach
+    void setUp() {
+        // Small wheel so that the deadlines below need more than one round
+        timerWheel = new TimerWheel(10, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timerWheel.stop();
+    }
+
+    @Test
+    void testSchedule_RunsInDeadlineOrder() throws InterruptedException {
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        Instant now = Instant.now();
+
+        timerWheel.schedule(() -> { fired.add(3); latch.countDown(); }, now.plusMillis(150));
+        timerWheel.schedule(() -> { fired.add(1); latch.countDown(); }, now.plusMillis(20));
+        timerWheel.schedule(() -> { fired.add(2); latch.countDown(); }, now.plusMillis(80));
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), fired);
+    }
+
+    @Test
+    void testSchedule_NotBeforeDeadline() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Instant deadline = Instant.now().plusMillis(100);
+        List<Instant> firedAt = new CopyOnWriteArrayList<>();
+
+        timerWheel.schedule(() -> { firedAt.add(Instant.now()); latch.countDown(); }, deadline);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertFalse(firedAt.get(0).isBefore(deadline));
+    }
+
+    @Test
+    void testSchedule_PastDeadlineRunsOnNextTick() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timerWheel.schedule(latch::countDown, Instant.now().minusSeconds(5));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCancel_TaskDoesNotRun() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TimerWheel.Timeout timeout = timerWheel.schedule(latch::countDown, Instant.now().plusMillis(50));
+        timeout.cancel();
+
+        assertFalse(latch.await(300, TimeUnit.MILLISECONDS));
+        assertTrue(timeout.isCancelled());
+    }
+}